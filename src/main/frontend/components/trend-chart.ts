@@ -0,0 +1,72 @@
+import { LitElement, css, html, svg } from 'lit';
+import { customElement, property } from 'lit/decorators.js';
+
+interface TrendPoint {
+  label: string;
+  value: number;
+  valueLabel: string;
+  color: string;
+}
+
+const WIDTH = 600;
+const HEIGHT = 300;
+const PADDING = 32;
+const MAX_AXIS_LABELS = 8;
+
+/**
+ * Lightweight SVG line chart for balance trends. Points are already downsampled on the server.
+ */
+@customElement('trend-chart')
+export class TrendChart extends LitElement {
+  @property({ type: Array })
+  points: TrendPoint[] = [];
+
+  static styles = css`
+    :host {
+      display: block;
+      height: 320px;
+    }
+    svg {
+      width: 100%;
+      height: 100%;
+    }
+    .line {
+      fill: none;
+      stroke: var(--lumo-contrast-50pct);
+      stroke-width: 2;
+    }
+    .axis {
+      font-size: 11px;
+      fill: var(--lumo-secondary-text-color);
+    }
+  `;
+
+  render() {
+    const points = this.points;
+    if (points.length === 0) {
+      return html``;
+    }
+
+    const max = Math.max(...points.map((point) => point.value), 1);
+    const step = points.length > 1 ? (WIDTH - 2 * PADDING) / (points.length - 1) : 0;
+    const x = (index: number) => (points.length > 1 ? PADDING + index * step : WIDTH / 2);
+    const y = (value: number) => HEIGHT - PADDING - (Math.max(value, 0) / max) * (HEIGHT - 2 * PADDING);
+    const labelEvery = Math.ceil(points.length / MAX_AXIS_LABELS);
+
+    return html`
+      <svg viewBox="0 0 ${WIDTH} ${HEIGHT}">
+        <polyline class="line" points=${points.map((point, i) => `${x(i)},${y(point.value)}`).join(' ')}></polyline>
+        ${points.map(
+          (point, i) => svg`
+            <circle cx=${x(i)} cy=${y(point.value)} r="5" fill=${point.color}>
+              <title>${point.label}: ${point.valueLabel}</title>
+            </circle>
+            ${i % labelEvery === 0 || i === points.length - 1
+              ? svg`<text class="axis" x=${x(i)} y=${HEIGHT - 8} text-anchor="middle">${point.label}</text>`
+              : ''}
+          `,
+        )}
+      </svg>
+    `;
+  }
+}
@@ -1,36 +1,57 @@
 package com.example.application.base.ui;
 
+import com.example.application.base.ui.component.TrendChart;
 import com.example.application.base.ui.component.ViewToolbar;
 import com.example.application.domain.*;
 import com.example.application.repository.*;
+import com.example.application.service.AvailableMonths;
+import com.example.application.service.MonthUpdateBroadcaster;
 import com.example.application.service.PaymentAnalysisService;
+import com.example.application.service.PaymentReadModel;
 import com.example.application.service.ConfigurationService;
 import com.example.application.service.PosterGeneratorService;
+import com.example.application.service.RankCatalog;
+import com.example.application.service.TrendSeriesService;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.data.renderer.LitRenderer;
 import com.vaadin.flow.component.html.*;
+import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.component.page.Page;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.component.textfield.NumberField;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.LumoUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
 
 import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.text.NumberFormat;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -40,12 +61,27 @@ import java.util.stream.Collectors;
 @PageTitle("Айлуудын жагсаалт")
 public final class MainView extends Main {
 
+    private static final Logger log = LoggerFactory.getLogger(MainView.class);
+    private static final long FILTER_DEBOUNCE_MILLIS = 300;
+
+    private static final String RANK_CELL_TEMPLATE =
+        "<div style=\"display: flex; align-items: center; gap: var(--lumo-space-s)\">" +
+        "<span class=\"rank-indicator\" style=\"width: 12px; height: 12px; border-radius: 50%; " +
+        "border: 1px solid #ccc; background-color: ${item.color}\"></span>" +
+        "<span style=\"color: ${item.color}; font-weight: bold\">${item.rank}</span>" +
+        "</div>";
+
     private final PaymentAnalysisService paymentAnalysisService;
+    private final PaymentReadModel paymentReadModel;
+    private final AvailableMonths availableMonths;
     private final BuildingRepository buildingRepository;
     private final EntranceRepository entranceRepository;
-    private final RankConfigurationRepository rankConfigurationRepository;
+    private final RankCatalog rankCatalog;
+    private final TrendSeriesService trendSeriesService;
     private final ConfigurationService configurationService;
     private final PosterGeneratorService posterGeneratorService;
+    private final MonthUpdateBroadcaster monthUpdateBroadcaster;
+    private final ScheduledExecutorService uiTaskScheduler;
 
     private final ComboBox<Building> buildingFilter;
     private final ComboBox<Entrance> entranceFilter;
@@ -56,18 +92,36 @@ public final class MainView extends Main {
     private final NumberField maxAmountFilter;
     private final Grid<PaymentAnalysisService.HouseholdPaymentInfo> householdGrid;
 
+    // What the grid is currently showing; replaced when filters change or an upload updates the month
+    private PaymentAnalysisService.HouseholdFilter gridFilter;
+    private Registration monthUpdateRegistration;
+
+    // Only the latest filter evaluation may update the grid
+    private ScheduledFuture<?> pendingEvaluation;
+    private long evaluationGeneration;
+
     MainView(PaymentAnalysisService paymentAnalysisService,
+             PaymentReadModel paymentReadModel,
+             AvailableMonths availableMonths,
              BuildingRepository buildingRepository,
              EntranceRepository entranceRepository,
-             RankConfigurationRepository rankConfigurationRepository,
+             RankCatalog rankCatalog,
+             TrendSeriesService trendSeriesService,
              ConfigurationService configurationService,
-             PosterGeneratorService posterGeneratorService) {
+             PosterGeneratorService posterGeneratorService,
+             MonthUpdateBroadcaster monthUpdateBroadcaster,
+             ScheduledExecutorService uiTaskScheduler) {
         this.paymentAnalysisService = paymentAnalysisService;
+        this.paymentReadModel = paymentReadModel;
+        this.availableMonths = availableMonths;
         this.buildingRepository = buildingRepository;
         this.entranceRepository = entranceRepository;
-        this.rankConfigurationRepository = rankConfigurationRepository;
+        this.rankCatalog = rankCatalog;
+        this.trendSeriesService = trendSeriesService;
         this.configurationService = configurationService;
         this.posterGeneratorService = posterGeneratorService;
+        this.monthUpdateBroadcaster = monthUpdateBroadcaster;
+        this.uiTaskScheduler = uiTaskScheduler;
 
         setSizeFull();
         addClassNames(LumoUtility.BoxSizing.BORDER, LumoUtility.Display.FLEX,
@@ -99,13 +153,9 @@ public final class MainView extends Main {
         rankFilter.addValueChangeListener(event -> filterHouseholds());
 
         monthFilter = new ComboBox<>("Сар");
-        monthFilter.setItems(
-            LocalDate.of(2024, 7, 1),
-            LocalDate.of(2024, 8, 1),
-            LocalDate.of(2024, 9, 1)
-        );
+        monthFilter.setItems(availableMonths.months());
         monthFilter.setItemLabelGenerator(date -> date.format(DateTimeFormatter.ofPattern("yyyy оны M сар")));
-        monthFilter.setValue(LocalDate.of(2024, 9, 1)); // Default to September
+        availableMonths.latest().ifPresent(monthFilter::setValue);
         monthFilter.addValueChangeListener(event -> filterHouseholds());
 
         minAmountFilter = new NumberField("Хамгийн бага өр (₮)");
@@ -146,7 +196,11 @@ public final class MainView extends Main {
         activeFiltersDiv.addClassNames("active-filters");
         updateActiveFiltersDisplay(activeFiltersDiv);
 
-        layout.add(filterButton, activeFiltersDiv);
+        // Printable sheets of the filtered households
+        Button printButton = new Button("🖨️ Хэвлэх", event -> openPrintSheetsDialog());
+        printButton.addThemeVariants(ButtonVariant.LUMO_TERTIARY);
+
+        layout.add(filterButton, activeFiltersDiv, printButton);
         return layout;
     }
 
@@ -267,6 +321,52 @@ public final class MainView extends Main {
         filterDialog.open();
     }
 
+    private void openPrintSheetsDialog() {
+        // Snapshot the filtered households now; the download is served outside the UI session lock
+        List<PaymentAnalysisService.HouseholdPaymentInfo> households = findFilteredHouseholds();
+
+        Dialog printDialog = new Dialog();
+        printDialog.setHeaderTitle("🖨️ Постер хэвлэх");
+        printDialog.setWidth("min(95vw, 400px)");
+
+        if (households.isEmpty()) {
+            Paragraph empty = new Paragraph("Шүүлтүүрт тохирох айл байхгүй тул хэвлэх мэдэгдэл алга.");
+            empty.addClassNames(LumoUtility.TextColor.SECONDARY);
+            printDialog.add(empty);
+            printDialog.getFooter().add(new Button("Хаах", event -> printDialog.close()));
+            printDialog.open();
+            return;
+        }
+
+        Paragraph summary = new Paragraph(households.size() + " айлын мэдэгдэл байр, орц, давхрын дарааллаар хэвлэгдэнэ.");
+        summary.addClassNames(LumoUtility.TextColor.SECONDARY);
+
+        Select<Integer> perPageSelect = new Select<>();
+        perPageSelect.setLabel("Нэг хуудсанд");
+        perPageSelect.setItems(2, 4, 8);
+        perPageSelect.setItemLabelGenerator(count -> count + " мэдэгдэл");
+        perPageSelect.setValue(4);
+
+        Anchor downloadLink = new Anchor(createPosterSheetsResource(households, 4), "📄 PDF татах");
+        downloadLink.getElement().setAttribute("download", true);
+        perPageSelect.addValueChangeListener(event ->
+            downloadLink.setHref(createPosterSheetsResource(households, event.getValue())));
+
+        VerticalLayout content = new VerticalLayout(summary, perPageSelect, downloadLink);
+        content.setPadding(false);
+        printDialog.add(content);
+        printDialog.getFooter().add(new Button("Хаах", event -> printDialog.close()));
+        printDialog.open();
+    }
+
+    private StreamResource createPosterSheetsResource(List<PaymentAnalysisService.HouseholdPaymentInfo> households,
+                                                      int postersPerPage) {
+        StreamResource resource = new StreamResource("posters_" + postersPerPage + "up.pdf",
+            (outputStream, session) -> posterGeneratorService.writePosterSheets(households, postersPerPage, outputStream));
+        resource.setContentType("application/pdf");
+        return resource;
+    }
+
     private void clearAllFilters() {
         buildingFilter.clear();
         entranceFilter.clear();
@@ -288,6 +388,7 @@ public final class MainView extends Main {
                                                      info.doorNumber))
             .setHeader("Хаяг")
             .setSortable(true)
+            .setSortProperty(PaymentAnalysisService.HouseholdSort.ADDRESS.name())
             .setFlexGrow(2)
             .setWidth("200px");
 
@@ -296,12 +397,17 @@ public final class MainView extends Main {
         householdGrid.addColumn(info -> formatCurrency(info.outstandingBalance))
             .setHeader("Өрийн хэмжээ")
             .setSortable(true)
+            .setSortProperty(PaymentAnalysisService.HouseholdSort.BALANCE.name())
             .setFlexGrow(1)
             .setWidth("120px");
 
-        householdGrid.addComponentColumn(this::createRankCell)
+        // Rendered client side from plain properties; no server-side components per row
+        householdGrid.addColumn(LitRenderer.<PaymentAnalysisService.HouseholdPaymentInfo>of(RANK_CELL_TEMPLATE)
+                .withProperty("rank", info -> info.rankCategory)
+                .withProperty("color", info -> getRankColor(info.rankCategory)))
             .setHeader("Өрийн зэрэглэл")
             .setSortable(true)
+            .setSortProperty(PaymentAnalysisService.HouseholdSort.BALANCE.name())
             .setFlexGrow(1)
             .setWidth("120px");
 
@@ -321,7 +427,10 @@ public final class MainView extends Main {
 
     private void loadData() {
         buildingFilter.setItems(buildingRepository.findAll());
-        filterHouseholds();
+        // The first result is computed right away so the grid isn't empty on first render
+        PaymentAnalysisService.HouseholdFilter filter = currentFilter();
+        showHouseholds(filter);
+        updateActiveFiltersInLayout();
     }
 
 
@@ -343,73 +452,153 @@ public final class MainView extends Main {
         floorFilter.setItems(floors);
     }
 
+    /**
+     * Schedule the filter evaluation off the request thread. Rapid filter changes are debounced and
+     * an evaluation superseded by a newer one is cancelled or, if already running, discarded.
+     */
     private void filterHouseholds() {
-        LocalDate selectedMonth = monthFilter.getValue();
-        if (selectedMonth == null) {
-            selectedMonth = LocalDate.of(2024, 9, 1); // Default to September
-        }
+        updateActiveFiltersInLayout();
 
-        var categorized = paymentAnalysisService.categorizeHouseholdsByRank(selectedMonth);
-        List<PaymentAnalysisService.HouseholdPaymentInfo> allHouseholds = categorized.values().stream()
-            .flatMap(List::stream)
-            .collect(Collectors.toList());
+        PaymentAnalysisService.HouseholdFilter filter = currentFilter();
+        long generation = ++evaluationGeneration;
+        if (pendingEvaluation != null) {
+            pendingEvaluation.cancel(false);
+        }
 
-        // Apply filters
-        List<PaymentAnalysisService.HouseholdPaymentInfo> filteredHouseholds = allHouseholds.stream()
-            .filter(household -> {
-                // Building filter
-                if (buildingFilter.getValue() != null &&
-                    !household.buildingNumber.equals(buildingFilter.getValue().getBuildingNumber())) {
-                    return false;
+        UI ui = UI.getCurrent();
+        pendingEvaluation = uiTaskScheduler.schedule(() -> {
+            try {
+                // Loads the month's snapshot off the request thread if no session has used it yet
+                paymentReadModel.month(filter.month()).count(filter);
+            } catch (Exception e) {
+                log.warn("Household filter evaluation failed", e);
+                ui.access(() -> {
+                    // A superseded evaluation must not report over the newer result
+                    if (generation == evaluationGeneration) {
+                        Notification.show("Шүүлтүүр ажиллахад алдаа гарлаа", 3000, Notification.Position.MIDDLE);
+                    }
+                });
+                return;
+            }
+            ui.access(() -> {
+                if (generation == evaluationGeneration) {
+                    showHouseholds(filter);
                 }
+            });
+        }, FILTER_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
 
-                // Entrance filter
-                if (entranceFilter.getValue() != null &&
-                    !household.entranceNumber.equals(entranceFilter.getValue().getEntranceNumber())) {
-                    return false;
-                }
+    /**
+     * The month's households matching the filter in address order. Safe to call from any thread.
+     */
+    private List<PaymentAnalysisService.HouseholdPaymentInfo> evaluateFilter(PaymentAnalysisService.HouseholdFilter filter) {
+        return paymentReadModel.month(filter.month())
+            .filter(filter, PaymentAnalysisService.HouseholdSort.ADDRESS.comparator(Sort.Direction.ASC));
+    }
 
-                // Floor filter
-                if (floorFilter.getValue() != null &&
-                    !household.floorNumber.equals(floorFilter.getValue())) {
-                    return false;
-                }
+    /**
+     * Page the shared month snapshot for the grid. The session keeps only the filter; each fetch reads the
+     * current snapshot, so uploads show up on the next fetch and no per-session copy of the rows exists.
+     */
+    private void showHouseholds(PaymentAnalysisService.HouseholdFilter filter) {
+        gridFilter = filter;
+        householdGrid.setItems(
+                query -> paymentReadModel.month(filter.month())
+                    .page(filter, toSortOrders(query), query.getOffset(), query.getLimit()).stream(),
+                query -> paymentReadModel.month(filter.month()).count(filter))
+            .setIdentifierProvider(info -> info.householdId);
+    }
 
-                // Rank filter
-                if (rankFilter.getValue() != null &&
-                    !household.rankCategory.equals(rankFilter.getValue())) {
-                    return false;
-                }
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        UI ui = attachEvent.getUI();
+        monthUpdateRegistration = monthUpdateBroadcaster.register(update -> ui.access(() -> applyMonthUpdate(update)));
+    }
 
-                // Amount filters
-                if (minAmountFilter.getValue() != null &&
-                    household.outstandingBalance.compareTo(BigDecimal.valueOf(minAmountFilter.getValue())) < 0) {
-                    return false;
-                }
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        super.onDetach(detachEvent);
+        if (monthUpdateRegistration != null) {
+            monthUpdateRegistration.remove();
+            monthUpdateRegistration = null;
+        }
+    }
 
-                if (maxAmountFilter.getValue() != null &&
-                    household.outstandingBalance.compareTo(BigDecimal.valueOf(maxAmountFilter.getValue())) > 0) {
-                    return false;
-                }
+    /**
+     * Apply an upload of the displayed month: rows whose place in the list is unchanged are refreshed
+     * individually, anything that moves rows in or out of the filter re-reads the in-memory snapshot
+     */
+    private void applyMonthUpdate(MonthUpdateBroadcaster.MonthUpdate update) {
+        if (monthFilter.getListDataView().getItems().noneMatch(update.month()::equals)) {
+            // A newly uploaded month becomes selectable without changing the current selection
+            LocalDate selected = monthFilter.getValue();
+            monthFilter.setItems(availableMonths.months());
+            monthFilter.setValue(selected);
+        }
 
-                return true;
-            })
-            .sorted((a, b) -> {
-                // Sort by building, then entrance, then door number
-                int buildingCompare = a.buildingNumber.compareTo(b.buildingNumber);
-                if (buildingCompare != 0) return buildingCompare;
+        if (gridFilter == null || update.isEmpty() || !update.month().equals(gridFilter.month())) {
+            return;
+        }
 
-                int entranceCompare = a.entranceNumber.compareTo(b.entranceNumber);
-                if (entranceCompare != 0) return entranceCompare;
+        boolean membershipChanged = false;
+        List<PaymentAnalysisService.HouseholdPaymentInfo> changedRows = new ArrayList<>();
+        for (MonthUpdateBroadcaster.Change change : update.changes()) {
+            boolean matchedBefore = change.before() != null && gridFilter.matches(change.before());
+            boolean matchesNow = gridFilter.matches(change.after());
+            if (matchedBefore != matchesNow) {
+                membershipChanged = true;
+            } else if (matchesNow) {
+                changedRows.add(change.after());
+            }
+        }
 
-                return a.doorNumber.compareTo(b.doorNumber);
-            })
-            .collect(Collectors.toList());
+        if (membershipChanged || (!changedRows.isEmpty() && isSortedByBalance())) {
+            householdGrid.getLazyDataView().refreshAll();
+        } else {
+            changedRows.forEach(householdGrid.getLazyDataView()::refreshItem);
+        }
+
+        if (membershipChanged || !changedRows.isEmpty()) {
+            Notification.show(update.changes().size() + " айлын мэдээлэл шинэчлэгдлээ", 3000, Notification.Position.BOTTOM_END);
+        }
+    }
 
-        householdGrid.setItems(filteredHouseholds);
+    private boolean isSortedByBalance() {
+        return householdGrid.getSortOrder().stream()
+            .flatMap(order -> order.getSorted().getSortOrder(order.getDirection()))
+            .anyMatch(order -> PaymentAnalysisService.HouseholdSort.BALANCE.name().equals(order.getSorted()));
+    }
 
-        // Update active filters display
-        updateActiveFiltersInLayout();
+    private List<PaymentAnalysisService.HouseholdPaymentInfo> findFilteredHouseholds() {
+        return evaluateFilter(currentFilter());
+    }
+
+    private PaymentAnalysisService.HouseholdFilter currentFilter() {
+        LocalDate selectedMonth = monthFilter.getValue();
+        if (selectedMonth == null) {
+            selectedMonth = availableMonths.latestOrCurrent();
+        }
+
+        return new PaymentAnalysisService.HouseholdFilter(
+            selectedMonth,
+            buildingFilter.getValue() != null ? buildingFilter.getValue().getBuildingNumber() : null,
+            entranceFilter.getValue() != null ? entranceFilter.getValue().getEntranceNumber() : null,
+            floorFilter.getValue(),
+            rankFilter.getValue(),
+            minAmountFilter.getValue() != null ? BigDecimal.valueOf(minAmountFilter.getValue()) : null,
+            maxAmountFilter.getValue() != null ? BigDecimal.valueOf(maxAmountFilter.getValue()) : null);
+    }
+
+    private List<PaymentAnalysisService.HouseholdSortOrder> toSortOrders(Query<?, ?> query) {
+        List<PaymentAnalysisService.HouseholdSortOrder> orders = new ArrayList<>();
+        for (QuerySortOrder order : query.getSortOrders()) {
+            Sort.Direction direction = order.getDirection() == SortDirection.DESCENDING
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+            orders.add(new PaymentAnalysisService.HouseholdSortOrder(
+                PaymentAnalysisService.HouseholdSort.valueOf(order.getSorted()), direction));
+        }
+        return orders;
     }
 
     private void updateActiveFiltersInLayout() {
@@ -561,62 +750,38 @@ public final class MainView extends Main {
         H3 chartTitle = new H3("📈 Өрийн өсөлт/бууралт");
         chartTitle.addClassNames(LumoUtility.Margin.Top.NONE);
 
-        // Get payment history for chart (last 6 months)
-        List<PaymentAnalysisService.PaymentHistoryInfo> paymentHistory =
-            paymentAnalysisService.getHouseholdPaymentHistory(householdInfo.householdId);
+        // Whole history, aggregated and downsampled on the server to a bounded number of points
+        TrendSeriesService.TrendSeries trend =
+            trendSeriesService.householdTrend(householdInfo.householdId, TrendSeriesService.DEFAULT_MAX_POINTS);
 
-        // Limit to last 6 months
-        List<PaymentAnalysisService.PaymentHistoryInfo> recentHistory = paymentHistory.stream()
-            .sorted((a, b) -> b.getMonth().compareTo(a.getMonth())) // Sort by month descending
-            .limit(6)
-            .sorted((a, b) -> a.getMonth().compareTo(b.getMonth())) // Sort back to ascending
-            .collect(Collectors.toList());
-
-        if (recentHistory.isEmpty()) {
+        if (trend.points().isEmpty()) {
             Paragraph noData = new Paragraph("📊 График үүсгэх мэдээлэл олдсонгүй");
             noData.addClassNames(LumoUtility.TextColor.SECONDARY, LumoUtility.FontSize.LARGE);
             chartDiv.add(chartTitle, noData);
         } else {
-            // Create simple text-based chart visualization
-            Div chartContainer = createSimpleChart(recentHistory);
-            chartDiv.add(chartTitle, chartContainer);
+            TrendChart chart = new TrendChart();
+            chart.setWidthFull();
+            chart.setPoints(trend.points().stream()
+                .map(point -> new TrendChart.Point(
+                    point.month().format(DateTimeFormatter.ofPattern("yyyy/M")),
+                    point.balance().doubleValue(),
+                    formatCurrency(point.balance()),
+                    getRankColor(point.rankCategory())))
+                .toList());
+            chartDiv.add(chartTitle, chart);
+
+            if (trend.isDownsampled()) {
+                Paragraph note = new Paragraph(trend.totalPoints() + " сараас " + trend.points().size() + " цэгээр харуулав");
+                note.addClassNames(LumoUtility.TextColor.SECONDARY, LumoUtility.FontSize.XSMALL);
+                chartDiv.add(note);
+            }
         }
 
         content.add(chartDiv);
     }
 
-    private Div createRankCell(PaymentAnalysisService.HouseholdPaymentInfo householdInfo) {
-        Div rankDiv = new Div();
-        rankDiv.addClassNames(LumoUtility.Display.FLEX, LumoUtility.AlignItems.CENTER, LumoUtility.Gap.SMALL);
-
-        // Find rank configuration for color
-        String colorCode = getRankColor(householdInfo.rankCategory);
-
-        // Color indicator
-        Div colorIndicator = new Div();
-        colorIndicator.setWidth("12px");
-        colorIndicator.setHeight("12px");
-        colorIndicator.addClassNames("rank-indicator");
-        colorIndicator.getStyle().set("border-radius", "50%");
-        colorIndicator.getStyle().set("background-color", colorCode);
-        colorIndicator.getStyle().set("border", "1px solid #ccc");
-
-        // Rank text
-        Span rankText = new Span(householdInfo.rankCategory);
-        rankText.getStyle().set("color", colorCode);
-        rankText.getStyle().set("font-weight", "bold");
-
-        rankDiv.add(colorIndicator, rankText);
-        return rankDiv;
-    }
-
     private String getRankColor(String rankName) {
-        return rankConfigurationRepository.findAll().stream()
-            .filter(rank -> rank.getRankName().equals(rankName))
-            .map(RankConfiguration::getColorCode)
-            .filter(color -> color != null && !color.isEmpty())
-            .findFirst()
-            .orElse("#666666"); // Default gray color
+        return rankCatalog.colorOf(rankName);
     }
 
     private Div createHistoryRankCell(PaymentAnalysisService.PaymentHistoryInfo historyInfo) {
@@ -692,79 +857,6 @@ public final class MainView extends Main {
         return changeDiv;
     }
 
-    private Div createSimpleChart(List<PaymentAnalysisService.PaymentHistoryInfo> paymentHistory) {
-        Div chartContainer = new Div();
-        chartContainer.setSizeFull();
-        chartContainer.setHeight("400px");
-        chartContainer.addClassNames(LumoUtility.Background.CONTRAST_10, LumoUtility.BorderRadius.MEDIUM,
-                                    LumoUtility.Padding.MEDIUM, "chart-container");
-
-        // Find min and max values for scaling
-        BigDecimal minAmount = paymentHistory.stream()
-            .map(PaymentAnalysisService.PaymentHistoryInfo::getOutstandingBalance)
-            .min(BigDecimal::compareTo)
-            .orElse(BigDecimal.ZERO);
-
-        BigDecimal maxAmount = paymentHistory.stream()
-            .map(PaymentAnalysisService.PaymentHistoryInfo::getOutstandingBalance)
-            .max(BigDecimal::compareTo)
-            .orElse(BigDecimal.ZERO);
-
-        // Create horizontal layout for chart bars
-        HorizontalLayout chartLayout = new HorizontalLayout();
-        chartLayout.setWidthFull();
-        chartLayout.setHeight("320px");
-        chartLayout.setAlignItems(HorizontalLayout.Alignment.END);
-        chartLayout.setJustifyContentMode(HorizontalLayout.JustifyContentMode.EVENLY);
-        chartLayout.setPadding(true);
-        chartLayout.setSpacing(true);
-
-        for (PaymentAnalysisService.PaymentHistoryInfo history : paymentHistory) {
-            VerticalLayout barContainer = new VerticalLayout();
-            barContainer.setPadding(false);
-            barContainer.setSpacing(false);
-            barContainer.setAlignItems(HorizontalLayout.Alignment.CENTER);
-            barContainer.setFlexGrow(1);
-
-            // Calculate bar height (percentage of max)
-            double percentage = maxAmount.compareTo(BigDecimal.ZERO) > 0 ?
-                history.getOutstandingBalance().divide(maxAmount, 4, RoundingMode.HALF_UP).doubleValue() : 0;
-            int barHeight = Math.max(20, (int) (percentage * 250)); // Min 20px, max 250px
-
-            // Create bar
-            Div bar = new Div();
-            bar.setWidth("60px");
-            bar.setHeight(barHeight + "px");
-            bar.addClassNames("chart-bar");
-            bar.getStyle().set("background-color", getRankColor(history.getRankCategory()));
-            bar.getStyle().set("border-radius", "6px 6px 0 0");
-            bar.getStyle().set("margin-bottom", "8px");
-            bar.getStyle().set("box-shadow", "0 2px 4px rgba(0,0,0,0.1)");
-
-            // Amount label (on top of bar)
-            Span amountLabel = new Span(formatCurrency(history.getOutstandingBalance()));
-            amountLabel.addClassNames(LumoUtility.FontSize.SMALL, LumoUtility.FontWeight.BOLD, "chart-label");
-            amountLabel.getStyle().set("color", getRankColor(history.getRankCategory()));
-            amountLabel.getStyle().set("margin-bottom", "4px");
-
-            // Month label (bottom)
-            Span monthLabel = new Span(history.getMonth().format(DateTimeFormatter.ofPattern("yyyy/M")));
-            monthLabel.addClassNames(LumoUtility.FontSize.SMALL, LumoUtility.TextColor.SECONDARY, "chart-label");
-            monthLabel.getStyle().set("margin-top", "4px");
-
-            // Rank label (below month)
-            Span rankLabel = new Span(history.getRankCategory());
-            rankLabel.addClassNames(LumoUtility.FontSize.XSMALL, LumoUtility.FontWeight.BOLD, "chart-label");
-            rankLabel.getStyle().set("color", getRankColor(history.getRankCategory()));
-
-            barContainer.add(amountLabel, bar, monthLabel, rankLabel);
-            chartLayout.add(barContainer);
-        }
-
-        chartContainer.add(chartLayout);
-        return chartContainer;
-    }
-
     private void createPosterButton(VerticalLayout content, PaymentAnalysisService.HouseholdPaymentInfo householdInfo) {
         // Add some spacing before the button
         Div spacer = new Div();
@@ -783,14 +875,7 @@ public final class MainView extends Main {
 
     private void generatePoster(PaymentAnalysisService.HouseholdPaymentInfo householdInfo) {
         try {
-            byte[] pdfBytes = posterGeneratorService.generatePoster(
-                householdInfo.buildingNumber,
-                String.valueOf(householdInfo.entranceNumber),
-                String.valueOf(householdInfo.floorNumber),
-                String.valueOf(householdInfo.doorNumber),
-                householdInfo.rankCategory,
-                householdInfo.outstandingBalance
-            );
+            byte[] pdfBytes = posterGeneratorService.generatePoster(householdInfo);
 
             // Create filename
             String filename = String.format("poster_%s-%s-%s-%s.pdf",
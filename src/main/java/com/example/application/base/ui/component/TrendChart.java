@@ -0,0 +1,38 @@
+package com.example.application.base.ui.component;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.dependency.JsModule;
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.List;
+
+/**
+ * Line chart drawn in the browser from a small array of points; no server-side component per point.
+ */
+@NullMarked
+@Tag("trend-chart")
+@JsModule("./components/trend-chart.ts")
+public final class TrendChart extends Component implements HasSize {
+
+    public void setPoints(List<Point> points) {
+        JsonArray array = Json.createArray();
+        for (int i = 0; i < points.size(); i++) {
+            Point point = points.get(i);
+            JsonObject json = Json.createObject();
+            json.put("label", point.label());
+            json.put("value", point.value());
+            json.put("valueLabel", point.valueLabel());
+            json.put("color", point.color());
+            array.set(i, json);
+        }
+        getElement().setPropertyJson("points", array);
+    }
+
+    public record Point(String label, double value, String valueLabel, String color) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.application.config;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Counts SQL statements per thread with {@link QueryCounter} and, when {@code shimegch.query-budget.per-request}
+ * is set, logs a warning for every HTTP request that runs more statements than the budget.
+ * Vaadin UI events arrive as HTTP requests, so a click that fans out into lazy loads shows up here.
+ */
+@Configuration
+public class QueryBudgetConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetConfiguration.class);
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shimegch.query-budget.per-request")
+    public FilterRegistrationBean<Filter> queryBudgetFilter(@Value("${shimegch.query-budget.per-request}") int budget) {
+        Filter filter = (request, response, chain) -> {
+            QueryCounter.reset();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                int used = QueryCounter.count();
+                if (used > budget) {
+                    log.warn("{} ran {} SQL statements, budget is {}",
+                             ((HttpServletRequest) request).getRequestURI(), used, budget);
+                }
+            }
+        };
+        return new FilterRegistrationBean<>(filter);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.application.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, to catch N+1 lookups.
+ * Registered as Hibernate's statement inspector by {@link QueryBudgetConfiguration}.
+ * <p>
+ * In tests: {@code QueryCounter.withinBudget(2, () -> service.loadSomething())} fails if more than two statements ran.
+ */
+public final class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Statements prepared on this thread since the last reset
+     */
+    public static int count() {
+        return COUNT.get()[0];
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * Run the action and fail with an {@link IllegalStateException} if it prepared more than {@code maxStatements}
+     */
+    public static <T> T withinBudget(int maxStatements, Supplier<T> action) {
+        int before = count();
+        T result = action.get();
+        int used = count() - before;
+        if (used > maxStatements) {
+            throw new IllegalStateException("Expected at most " + maxStatements + " SQL statements but " + used + " ran");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.application.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to a read replica when {@code shimegch.datasource.replica.url} is set,
+ * so dashboards and reports do not compete with uploads on the primary. Without it Spring Boot's
+ * single datasource is used unchanged.
+ * <p>
+ * The connection is only fetched at the first statement, after the transaction has been marked read-only,
+ * and then comes from the replica. Everything else, including read-write transactions that read, uses the primary.
+ * Replica reads may lag the primary slightly, so the shared in-memory models (month snapshots, months, ranks,
+ * memes, the household name index) always load in read-write transactions, on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "shimegch.datasource.replica.url")
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("shimegch.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${shimegch.datasource.replica.url}") String url,
+                                              @Value("${shimegch.datasource.replica.username:#{null}}") String username,
+                                              @Value("${shimegch.datasource.replica.password:#{null}}") String password) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username != null ? username : properties.determineUsername())
+            .password(password != null ? password : properties.determinePassword())
+            .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Threads for {@code @Scheduled} jobs such as the upload retention job. Declared explicitly because Spring would
+ * otherwise pick up the uiTaskScheduler executor and run long jobs next to the UI's debounced work.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${shimegch.scheduling.threads:1}") int threads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(threads);
+        scheduler.setThreadNamePrefix("scheduled-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.application.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background threads for UI work that should not run on the request thread, e.g. debounced filter evaluation
+ */
+@Configuration
+public class UiExecutorConfiguration {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService uiTaskScheduler(@Value("${shimegch.ui.task-threads:2}") int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "ui-task-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.application.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -8,11 +10,16 @@ import org.jspecify.annotations.Nullable;
  * Apartment numbers range from 1-80 per entrance, with door numbers starting from 1 on first floor.
  */
 @Entity
-@Table(name = "apartment")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "apartment", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_apartment_entrance_door", columnNames = {"entrance_id", "door_number"})
+})
 public class Apartment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "apartment_seq")
+    @SequenceGenerator(name = "apartment_seq", sequenceName = "apartment_seq", allocationSize = 50)
     @Column(name = "apartment_id")
     private Long id;
 
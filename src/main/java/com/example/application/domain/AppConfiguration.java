@@ -11,7 +11,8 @@ import org.jspecify.annotations.Nullable;
 public class AppConfiguration {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_configuration_seq")
+    @SequenceGenerator(name = "app_configuration_seq", sequenceName = "app_configuration_seq", allocationSize = 50)
     @Column(name = "config_id")
     private Long id;
 
@@ -1,6 +1,8 @@
 package com.example.application.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -11,11 +13,14 @@ import java.util.List;
  * Each building has a number and contains multiple entrances.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "building")
 public class Building {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "building_seq")
+    @SequenceGenerator(name = "building_seq", sequenceName = "building_seq", allocationSize = 50)
     @Column(name = "building_id")
     private Long id;
 
@@ -35,6 +40,7 @@ public class Building {
     private Integer apartmentsPerFloor;
 
     @OneToMany(mappedBy = "building", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Entrance> entrances = new ArrayList<>();
 
     protected Building() {
@@ -1,6 +1,8 @@
 package com.example.application.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -8,11 +10,16 @@ import org.jspecify.annotations.Nullable;
  * Each entrance has 80 apartments across 16 floors with 6 apartments per floor.
  */
 @Entity
-@Table(name = "entrance")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "entrance", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_entrance_building_number", columnNames = {"building_id", "entrance_number"})
+})
 public class Entrance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "entrance_seq")
+    @SequenceGenerator(name = "entrance_seq", sequenceName = "entrance_seq", allocationSize = 50)
     @Column(name = "entrance_id")
     private Long id;
 
@@ -7,11 +7,25 @@ import org.jspecify.annotations.Nullable;
  * Represents a household living in an apartment.
  */
 @Entity
-@Table(name = "household")
+@Table(name = "household", indexes = {
+    @Index(name = "idx_household_apartment", columnList = "apartment_id")
+})
+@NamedEntityGraph(name = Household.ADDRESS_GRAPH,
+    attributeNodes = @NamedAttributeNode(value = "apartment", subgraph = "apartment"),
+    subgraphs = {
+        @NamedSubgraph(name = "apartment", attributeNodes = @NamedAttributeNode(value = "entrance", subgraph = "entrance")),
+        @NamedSubgraph(name = "entrance", attributeNodes = @NamedAttributeNode("building"))
+    })
 public class Household {
 
+    /**
+     * Fetches the apartment, entrance and building in the same query, for anything showing the address
+     */
+    public static final String ADDRESS_GRAPH = "Household.address";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "household_seq")
+    @SequenceGenerator(name = "household_seq", sequenceName = "household_seq", allocationSize = 50)
     @Column(name = "household_id")
     private Long id;
 
@@ -11,11 +11,28 @@ import java.time.LocalDate;
  * Contains the outstanding balance for СӨХ payments.
  */
 @Entity
-@Table(name = "payment_record")
+@Table(name = "payment_record", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_payment_record_household_month", columnNames = {"household_id", "record_month"})
+}, indexes = {
+    @Index(name = "idx_payment_record_month", columnList = "record_month, outstanding_balance")
+})
+@NamedEntityGraph(name = PaymentRecord.ADDRESS_GRAPH,
+    attributeNodes = @NamedAttributeNode(value = "household", subgraph = "household"),
+    subgraphs = {
+        @NamedSubgraph(name = "household", attributeNodes = @NamedAttributeNode(value = "apartment", subgraph = "apartment")),
+        @NamedSubgraph(name = "apartment", attributeNodes = @NamedAttributeNode(value = "entrance", subgraph = "entrance")),
+        @NamedSubgraph(name = "entrance", attributeNodes = @NamedAttributeNode("building"))
+    })
 public class PaymentRecord {
 
+    /**
+     * Fetches the household with its full address (apartment, entrance, building) in the same query
+     */
+    public static final String ADDRESS_GRAPH = "PaymentRecord.address";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_record_seq")
+    @SequenceGenerator(name = "payment_record_seq", sequenceName = "payment_record_seq", allocationSize = 50)
     @Column(name = "payment_record_id")
     private Long id;
 
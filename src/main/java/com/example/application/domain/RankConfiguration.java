@@ -1,6 +1,8 @@
 package com.example.application.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.jspecify.annotations.Nullable;
 
 import java.math.BigDecimal;
@@ -10,11 +12,14 @@ import java.math.BigDecimal;
  * Allows admin to set different ranks based on outstanding balance amounts.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "rank_configuration")
 public class RankConfiguration {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rank_configuration_seq")
+    @SequenceGenerator(name = "rank_configuration_seq", sequenceName = "rank_configuration_seq", allocationSize = 50)
     @Column(name = "rank_config_id")
     private Long id;
 
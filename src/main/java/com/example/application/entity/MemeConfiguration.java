@@ -10,7 +10,8 @@ import jakarta.persistence.*;
 public class MemeConfiguration {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meme_configurations_seq")
+    @SequenceGenerator(name = "meme_configurations_seq", sequenceName = "meme_configurations_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "meme_type", nullable = false)
@@ -26,6 +27,9 @@ public class MemeConfiguration {
     @Column(name = "display_order")
     private Integer displayOrder;
 
+    @Column(name = "weight")
+    private Integer weight = 1;
+
     public enum MemeType {
         IMAGE_URL,  // URL to meme image
         TEXT        // Funny text
@@ -80,4 +84,12 @@ public class MemeConfiguration {
     public void setDisplayOrder(Integer displayOrder) {
         this.displayOrder = displayOrder;
     }
+
+    public Integer getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Integer weight) {
+        this.weight = weight;
+    }
 }
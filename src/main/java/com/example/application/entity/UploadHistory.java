@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 public class UploadHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "upload_history_seq")
+    @SequenceGenerator(name = "upload_history_seq", sequenceName = "upload_history_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "upload_date", nullable = false)
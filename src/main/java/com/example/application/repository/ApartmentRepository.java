@@ -2,8 +2,11 @@ package com.example.application.repository;
 
 import com.example.application.domain.Apartment;
 import com.example.application.domain.Entrance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -21,6 +24,7 @@ public interface ApartmentRepository extends JpaRepository<Apartment, Long> {
     
     @Query("SELECT a FROM Apartment a WHERE a.entrance.building.buildingNumber = :buildingNumber " +
            "AND a.entrance.entranceNumber = :entranceNumber AND a.doorNumber = :doorNumber")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Apartment> findByBuildingEntranceAndDoor(@Param("buildingNumber") String buildingNumber,
                                                       @Param("entranceNumber") Integer entranceNumber,
                                                       @Param("doorNumber") Integer doorNumber);
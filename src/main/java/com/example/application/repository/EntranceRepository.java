@@ -2,7 +2,10 @@ package com.example.application.repository;
 
 import com.example.application.domain.Building;
 import com.example.application.domain.Entrance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,7 +13,9 @@ import java.util.List;
 @Repository
 public interface EntranceRepository extends JpaRepository<Entrance, Long> {
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Entrance> findByBuilding(Building building);
     
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Entrance> findByBuildingOrderByEntranceNumber(Building building);
 }
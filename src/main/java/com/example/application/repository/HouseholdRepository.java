@@ -2,49 +2,121 @@ package com.example.application.repository;
 
 import com.example.application.domain.Apartment;
 import com.example.application.domain.Household;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface HouseholdRepository extends JpaRepository<Household, Long> {
 
+    @EntityGraph(Household.ADDRESS_GRAPH)
+    @Query("SELECT h FROM Household h WHERE h.apartment = :apartment")
+    Optional<Household> findByApartment(@Param("apartment") Apartment apartment);
+
+    @EntityGraph(Household.ADDRESS_GRAPH)
+    @Query("SELECT h FROM Household h WHERE LOWER(h.householdName) LIKE LOWER(CONCAT('%', :name, '%'))")
+    List<Household> findByHouseholdNameContainingIgnoreCase(@Param("name") String name);
+
     @Query("SELECT h FROM Household h " +
            "JOIN FETCH h.apartment a " +
            "JOIN FETCH a.entrance e " +
            "JOIN FETCH e.building b " +
-           "WHERE a = :apartment")
-    Optional<Household> findByApartment(@Param("apartment") Apartment apartment);
+           "WHERE b.buildingNumber = :buildingNumber")
+    List<Household> findByBuildingNumber(@Param("buildingNumber") String buildingNumber);
 
     @Query("SELECT h FROM Household h " +
            "JOIN FETCH h.apartment a " +
            "JOIN FETCH a.entrance e " +
            "JOIN FETCH e.building b " +
-           "WHERE LOWER(h.householdName) LIKE LOWER(CONCAT('%', :name, '%'))")
-    List<Household> findByHouseholdNameContainingIgnoreCase(@Param("name") String name);
+           "WHERE b.buildingNumber = :buildingNumber AND e.entranceNumber = :entranceNumber")
+    List<Household> findByBuildingAndEntrance(@Param("buildingNumber") String buildingNumber,
+                                            @Param("entranceNumber") Integer entranceNumber);
+
+    @Override
+    @EntityGraph(Household.ADDRESS_GRAPH)
+    List<Household> findAll();
+
+    /**
+     * Id and name of every household, for building the in-memory name search index
+     */
+    @Query("SELECT h.id, h.householdName FROM Household h")
+    List<Object[]> findAllIdsAndNames();
+
+    // Paged household list queries. Null building or entrance values match everything.
 
     @Query("SELECT h FROM Household h " +
            "JOIN FETCH h.apartment a " +
            "JOIN FETCH a.entrance e " +
            "JOIN FETCH e.building b " +
-           "WHERE b.buildingNumber = :buildingNumber")
-    List<Household> findByBuildingNumber(@Param("buildingNumber") String buildingNumber);
+           "WHERE (:buildingNumber IS NULL OR b.buildingNumber = :buildingNumber) " +
+           "AND (:entranceNumber IS NULL OR e.entranceNumber = :entranceNumber)")
+    List<Household> findPageByLocation(@Param("buildingNumber") String buildingNumber,
+                                    @Param("entranceNumber") Integer entranceNumber,
+                                    Pageable pageable);
+
+    @Query("SELECT COUNT(h) FROM Household h " +
+           "JOIN h.apartment a " +
+           "JOIN a.entrance e " +
+           "JOIN e.building b " +
+           "WHERE (:buildingNumber IS NULL OR b.buildingNumber = :buildingNumber) " +
+           "AND (:entranceNumber IS NULL OR e.entranceNumber = :entranceNumber)")
+    long countByLocation(@Param("buildingNumber") String buildingNumber,
+                                    @Param("entranceNumber") Integer entranceNumber);
 
+    /**
+     * Name search for databases with a trigram index on {@code lower(household_name)}.
+     * The pattern must already be lower case and wrapped in {@code %}.
+     */
     @Query("SELECT h FROM Household h " +
            "JOIN FETCH h.apartment a " +
            "JOIN FETCH a.entrance e " +
            "JOIN FETCH e.building b " +
-           "WHERE b.buildingNumber = :buildingNumber AND e.entranceNumber = :entranceNumber")
-    List<Household> findByBuildingAndEntrance(@Param("buildingNumber") String buildingNumber,
-                                            @Param("entranceNumber") Integer entranceNumber);
+           "WHERE (:buildingNumber IS NULL OR b.buildingNumber = :buildingNumber) " +
+           "AND (:entranceNumber IS NULL OR e.entranceNumber = :entranceNumber) " +
+           "AND LOWER(h.householdName) LIKE :namePattern ESCAPE '!'")
+    List<Household> findPageByLocationAndNamePattern(@Param("buildingNumber") String buildingNumber,
+                                    @Param("entranceNumber") Integer entranceNumber,
+                                    @Param("namePattern") String namePattern,
+                                    Pageable pageable);
+
+    @Query("SELECT COUNT(h) FROM Household h " +
+           "JOIN h.apartment a " +
+           "JOIN a.entrance e " +
+           "JOIN e.building b " +
+           "WHERE (:buildingNumber IS NULL OR b.buildingNumber = :buildingNumber) " +
+           "AND (:entranceNumber IS NULL OR e.entranceNumber = :entranceNumber) " +
+           "AND LOWER(h.householdName) LIKE :namePattern ESCAPE '!'")
+    long countByLocationAndNamePattern(@Param("buildingNumber") String buildingNumber,
+                                    @Param("entranceNumber") Integer entranceNumber,
+                                    @Param("namePattern") String namePattern);
 
     @Query("SELECT h FROM Household h " +
            "JOIN FETCH h.apartment a " +
            "JOIN FETCH a.entrance e " +
-           "JOIN FETCH e.building b")
-    List<Household> findAll();
+           "JOIN FETCH e.building b " +
+           "WHERE (:buildingNumber IS NULL OR b.buildingNumber = :buildingNumber) " +
+           "AND (:entranceNumber IS NULL OR e.entranceNumber = :entranceNumber) " +
+           "AND h.id IN :ids")
+    List<Household> findPageByLocationAndIdIn(@Param("buildingNumber") String buildingNumber,
+                                    @Param("entranceNumber") Integer entranceNumber,
+                                    @Param("ids") Collection<Long> ids,
+                                    Pageable pageable);
+
+    @Query("SELECT COUNT(h) FROM Household h " +
+           "JOIN h.apartment a " +
+           "JOIN a.entrance e " +
+           "JOIN e.building b " +
+           "WHERE (:buildingNumber IS NULL OR b.buildingNumber = :buildingNumber) " +
+           "AND (:entranceNumber IS NULL OR e.entranceNumber = :entranceNumber) " +
+           "AND h.id IN :ids")
+    long countByLocationAndIdIn(@Param("buildingNumber") String buildingNumber,
+                                    @Param("entranceNumber") Integer entranceNumber,
+                                    @Param("ids") Collection<Long> ids);
 }
@@ -2,6 +2,7 @@ package com.example.application.repository;
 
 import com.example.application.domain.Household;
 import com.example.application.domain.PaymentRecord;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,12 +18,8 @@ public interface PaymentRecordRepository extends JpaRepository<PaymentRecord, Lo
     
     List<PaymentRecord> findByHousehold(Household household);
     
-    @Query("SELECT pr FROM PaymentRecord pr " +
-           "JOIN FETCH pr.household h " +
-           "JOIN FETCH h.apartment a " +
-           "JOIN FETCH a.entrance e " +
-           "JOIN FETCH e.building b " +
-           "WHERE pr.recordMonth = :recordMonth")
+    @EntityGraph(PaymentRecord.ADDRESS_GRAPH)
+    @Query("SELECT pr FROM PaymentRecord pr WHERE pr.recordMonth = :recordMonth")
     List<PaymentRecord> findByRecordMonth(@Param("recordMonth") LocalDate recordMonth);
 
     Optional<PaymentRecord> findByHouseholdAndRecordMonth(Household household, LocalDate recordMonth);
@@ -30,24 +27,62 @@ public interface PaymentRecordRepository extends JpaRepository<PaymentRecord, Lo
     @Query("SELECT pr FROM PaymentRecord pr WHERE pr.household.id = :householdId ORDER BY pr.recordMonth")
     List<PaymentRecord> findByHouseholdIdOrderByRecordMonth(@Param("householdId") Long householdId);
     
+    @EntityGraph(PaymentRecord.ADDRESS_GRAPH)
     @Query("SELECT pr FROM PaymentRecord pr WHERE pr.outstandingBalance >= :threshold")
     List<PaymentRecord> findByOutstandingBalanceGreaterThanEqual(@Param("threshold") BigDecimal threshold);
     
+    @EntityGraph(PaymentRecord.ADDRESS_GRAPH)
     @Query("SELECT pr FROM PaymentRecord pr " +
-           "JOIN FETCH pr.household h " +
-           "JOIN FETCH h.apartment a " +
-           "JOIN FETCH a.entrance e " +
-           "JOIN FETCH e.building b " +
            "WHERE pr.recordMonth = :month AND pr.outstandingBalance >= :threshold " +
            "ORDER BY pr.outstandingBalance DESC")
     List<PaymentRecord> findByMonthAndBalanceThreshold(@Param("month") LocalDate month,
                                                       @Param("threshold") BigDecimal threshold);
     
+    @EntityGraph(PaymentRecord.ADDRESS_GRAPH)
     @Query("SELECT pr FROM PaymentRecord pr " +
-           "JOIN FETCH pr.household h " +
-           "JOIN FETCH h.apartment a " +
-           "JOIN FETCH a.entrance e " +
-           "JOIN FETCH e.building b " +
            "WHERE pr.recordMonth = (SELECT MAX(pr2.recordMonth) FROM PaymentRecord pr2)")
     List<PaymentRecord> findLatestRecords();
+
+    /**
+     * Month, outstanding balance and record count per month, oldest first, for one household.
+     * Answered from the (household_id, record_month) index without joining the address tables.
+     */
+    @Query("SELECT pr.recordMonth, SUM(pr.outstandingBalance), COUNT(pr) FROM PaymentRecord pr " +
+           "WHERE pr.household.id = :householdId " +
+           "GROUP BY pr.recordMonth " +
+           "ORDER BY pr.recordMonth")
+    List<Object[]> findMonthlyTotalsByHousehold(@Param("householdId") Long householdId);
+
+    /**
+     * Month, total outstanding balance and record count per month, oldest first, for one entrance
+     */
+    @Query("SELECT pr.recordMonth, SUM(pr.outstandingBalance), COUNT(pr) FROM PaymentRecord pr " +
+           "JOIN pr.household h " +
+           "JOIN h.apartment a " +
+           "JOIN a.entrance e " +
+           "JOIN e.building b " +
+           "WHERE b.buildingNumber = :buildingNumber AND e.entranceNumber = :entranceNumber " +
+           "GROUP BY pr.recordMonth " +
+           "ORDER BY pr.recordMonth")
+    List<Object[]> findMonthlyTotalsByEntrance(@Param("buildingNumber") String buildingNumber,
+                                               @Param("entranceNumber") Integer entranceNumber);
+
+    /**
+     * Month, total outstanding balance and record count per month, oldest first, for one building
+     */
+    @Query("SELECT pr.recordMonth, SUM(pr.outstandingBalance), COUNT(pr) FROM PaymentRecord pr " +
+           "JOIN pr.household h " +
+           "JOIN h.apartment a " +
+           "JOIN a.entrance e " +
+           "JOIN e.building b " +
+           "WHERE b.buildingNumber = :buildingNumber " +
+           "GROUP BY pr.recordMonth " +
+           "ORDER BY pr.recordMonth")
+    List<Object[]> findMonthlyTotalsByBuilding(@Param("buildingNumber") String buildingNumber);
+
+    /**
+     * Months that have payment data, newest first. Served by the record month index.
+     */
+    @Query("SELECT DISTINCT pr.recordMonth FROM PaymentRecord pr ORDER BY pr.recordMonth DESC")
+    List<LocalDate> findDistinctRecordMonths();
 }
@@ -1,8 +1,11 @@
 package com.example.application.repository;
 
 import com.example.application.domain.RankConfiguration;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,5 +16,6 @@ public interface RankConfigurationRepository extends JpaRepository<RankConfigura
     List<RankConfiguration> findByIsActiveTrue();
     
     @Query("SELECT rc FROM RankConfiguration rc WHERE rc.isActive = true ORDER BY rc.thresholdAmount DESC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RankConfiguration> findActiveRanksOrderByThresholdDesc();
 }
@@ -1,12 +1,15 @@
 package com.example.application.repository;
 
 import com.example.application.entity.UploadHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -71,6 +74,37 @@ public interface UploadHistoryRepository extends JpaRepository<UploadHistory, Lo
     @Query("SELECT u FROM UploadHistory u WHERE u.fileContent IS NOT NULL ORDER BY u.uploadDate DESC")
     List<UploadHistory> findUploadsWithFileContent();
 
+    /**
+     * Keyset page of uploads, newest first: the first page of the history
+     */
+    List<UploadHistory> findAllByOrderByUploadDateDescIdDesc(Limit limit);
+
+    /**
+     * Keyset page of uploads, newest first, continuing after the last upload of the previous page.
+     * The row value comparison is an index bound on (upload_date, id), so deep pages cost the same as the first one;
+     * the equivalent OR form would only be a filter on a scan over every skipped row.
+     */
+    @Query("SELECT u FROM UploadHistory u " +
+           "WHERE (u.uploadDate, u.id) < (:afterUploadDate, :afterId) " +
+           "ORDER BY u.uploadDate DESC, u.id DESC")
+    List<UploadHistory> findPageAfter(@Param("afterUploadDate") LocalDateTime afterUploadDate,
+                                      @Param("afterId") Long afterId,
+                                      Limit limit);
+
+    /**
+     * Id and recorded file size of uploads before the cutoff that still store their file, oldest id first
+     */
+    @Query("SELECT u.id, u.fileSize FROM UploadHistory u " +
+           "WHERE u.uploadDate < :cutoffDate AND u.fileContent IS NOT NULL ORDER BY u.id")
+    List<Object[]> findStoredFilesBefore(@Param("cutoffDate") LocalDateTime cutoffDate, Limit limit);
+
+    /**
+     * Drop the stored files of the given uploads in one statement, keeping the upload metadata
+     */
+    @Modifying
+    @Query("UPDATE UploadHistory u SET u.fileContent = NULL WHERE u.id IN :ids")
+    int clearFileContent(@Param("ids") Collection<Long> ids);
+
     /**
      * Delete old uploads (older than specified date)
      */
@@ -0,0 +1,73 @@
+package com.example.application.service;
+
+import com.example.application.repository.PaymentRecordRepository;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cached list of months that have payment data, newest first, for populating month pickers.
+ * Loaded once with a distinct query on the indexed record month and extended after each committed upload.
+ */
+@Service
+public class AvailableMonths {
+
+    private final PaymentRecordRepository paymentRecordRepository;
+
+    private volatile List<LocalDate> months;
+
+    public AvailableMonths(PaymentRecordRepository paymentRecordRepository) {
+        this.paymentRecordRepository = paymentRecordRepository;
+    }
+
+    public List<LocalDate> months() {
+        List<LocalDate> current = months;
+        if (current == null) {
+            current = refresh();
+        }
+        return current;
+    }
+
+    public Optional<LocalDate> latest() {
+        List<LocalDate> current = months();
+        return current.isEmpty() ? Optional.empty() : Optional.of(current.get(0));
+    }
+
+    /**
+     * The latest month, or the current month when nothing has been uploaded yet
+     */
+    public LocalDate latestOrCurrent() {
+        return latest().orElseGet(() -> LocalDate.now().withDayOfMonth(1));
+    }
+
+    @Transactional
+    public synchronized List<LocalDate> refresh() {
+        List<LocalDate> loaded = List.copyOf(paymentRecordRepository.findDistinctRecordMonths());
+        months = loaded;
+        return loaded;
+    }
+
+    /**
+     * Runs before other upload listeners so they already see the uploaded month as available
+     */
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void onPaymentDataUpdated(PaymentDataUpdatedEvent event) {
+        List<LocalDate> current = months();
+        if (current.contains(event.recordMonth())) {
+            return;
+        }
+        List<LocalDate> updated = new ArrayList<>(current);
+        updated.add(event.recordMonth());
+        updated.sort(Comparator.reverseOrder());
+        months = List.copyOf(updated);
+    }
+}
@@ -2,32 +2,61 @@ package com.example.application.service;
 
 import com.example.application.domain.AppConfiguration;
 import com.example.application.repository.AppConfigurationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service for managing application configuration.
- * Stores configuration in both database and local file for persistence.
+ * Stores configuration in both database and local file for persistence. All values are held in memory,
+ * so reads cost no queries; the local file is rewritten in the background shortly after the last change.
  */
 @Service
 public class ConfigurationService {
 
+    private static final Logger log = LoggerFactory.getLogger(ConfigurationService.class);
+
     public static final String TOP_BAR_TEXT_KEY = "top_bar_text";
+    public static final String EMOJI_TABLE_KEY = "poster_emoji_table";
     private static final String CONFIG_FILE_NAME = "shimegch-config.properties";
     private static final String DEFAULT_TOP_BAR_TEXT = "Shimegch - СӨХ Төлбөрийн Удирдлагын Систем";
 
     private final AppConfigurationRepository configRepository;
     private final Path configFilePath;
+    private final long writeDelayMillis;
+
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService fileWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "config-file-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ScheduledFuture<?> pendingWrite;
 
-    public ConfigurationService(AppConfigurationRepository configRepository) {
+    public ConfigurationService(AppConfigurationRepository configRepository,
+                                @Value("${shimegch.config.write-delay-ms:500}") long writeDelayMillis) {
         this.configRepository = configRepository;
         this.configFilePath = Paths.get(System.getProperty("user.home"), CONFIG_FILE_NAME);
+        this.writeDelayMillis = writeDelayMillis;
         initializeConfiguration();
     }
 
@@ -35,34 +64,62 @@ public class ConfigurationService {
     public void initializeConfiguration() {
         // Load from file first, then database
         loadConfigurationFromFile();
-        
+
         // Ensure default values exist
+        boolean created = false;
         if (!configRepository.findByConfigKey(TOP_BAR_TEXT_KEY).isPresent()) {
             AppConfiguration topBarConfig = new AppConfiguration(
-                TOP_BAR_TEXT_KEY, 
+                TOP_BAR_TEXT_KEY,
                 DEFAULT_TOP_BAR_TEXT,
                 "Top bar дээр харагдах текст"
             );
             configRepository.save(topBarConfig);
-            saveConfigurationToFile();
+            created = true;
+        }
+
+        configRepository.findAll().forEach(config -> {
+            if (config.getConfigValue() != null) {
+                values.put(config.getConfigKey(), config.getConfigValue());
+            }
+        });
+        if (created) {
+            scheduleFileWrite();
         }
     }
 
     @Transactional
     public void setTopBarText(String text) {
-        AppConfiguration config = configRepository.findByConfigKey(TOP_BAR_TEXT_KEY)
-            .orElse(new AppConfiguration(TOP_BAR_TEXT_KEY, text, "Top bar дээр харагдах текст"));
-        
-        config.setConfigValue(text);
-        configRepository.save(config);
-        saveConfigurationToFile();
+        setValue(TOP_BAR_TEXT_KEY, text, "Top bar дээр харагдах текст");
     }
 
-    @Transactional(readOnly = true)
     public String getTopBarText() {
-        return configRepository.findByConfigKey(TOP_BAR_TEXT_KEY)
-            .map(AppConfiguration::getConfigValue)
-            .orElse(DEFAULT_TOP_BAR_TEXT);
+        return values.getOrDefault(TOP_BAR_TEXT_KEY, DEFAULT_TOP_BAR_TEXT);
+    }
+
+    @Transactional
+    public void setEmojiTable(String table) {
+        setValue(EMOJI_TABLE_KEY, table, "Постер дээрх emoji-г текстээр солих хүснэгт");
+    }
+
+    public String getEmojiTable() {
+        return values.getOrDefault(EMOJI_TABLE_KEY, EmojiTextProcessor.DEFAULT_TABLE);
+    }
+
+    private void setValue(String key, String value, String description) {
+        AppConfiguration config = configRepository.findByConfigKey(key)
+            .orElse(new AppConfiguration(key, value, description));
+
+        config.setConfigValue(value);
+        configRepository.save(config);
+
+        // Readers only see the new value once it is committed
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                values.put(key, value);
+                scheduleFileWrite();
+            }
+        });
     }
 
     private void loadConfigurationFromFile() {
@@ -78,31 +135,64 @@ public class ConfigurationService {
                 String value = props.getProperty(key);
                 AppConfiguration config = configRepository.findByConfigKey(key)
                     .orElse(new AppConfiguration(key, value));
-                
+
                 config.setConfigValue(value);
                 configRepository.save(config);
             }
         } catch (IOException e) {
-            System.err.println("Failed to load configuration from file: " + e.getMessage());
+            log.warn("Failed to load configuration from file: {}", e.getMessage());
         }
     }
 
-    private void saveConfigurationToFile() {
+    /**
+     * Debounce: a burst of changes results in one file write after the last of them
+     */
+    private synchronized void scheduleFileWrite() {
+        if (pendingWrite != null) {
+            pendingWrite.cancel(false);
+        }
+        pendingWrite = fileWriter.schedule(this::saveConfigurationToFile, writeDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Write the in-memory values to a temp file next to the config file and move it into place,
+     * so a crash mid-write never leaves a truncated config file behind
+     */
+    private synchronized void saveConfigurationToFile() {
+        Path tempFile = null;
         try {
             Properties props = new Properties();
-            
-            // Get all configurations from database
-            configRepository.findAll().forEach(config -> {
-                if (config.getConfigValue() != null) {
-                    props.setProperty(config.getConfigKey(), config.getConfigValue());
-                }
-            });
+            props.putAll(values);
 
-            try (OutputStream output = Files.newOutputStream(configFilePath)) {
+            tempFile = Files.createTempFile(configFilePath.toAbsolutePath().getParent(), CONFIG_FILE_NAME, ".tmp");
+            try (OutputStream output = Files.newOutputStream(tempFile)) {
                 props.store(output, "Shimegch Application Configuration");
             }
+            try {
+                Files.move(tempFile, configFilePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, configFilePath, StandardCopyOption.REPLACE_EXISTING);
+            }
         } catch (IOException e) {
-            System.err.println("Failed to save configuration to file: " + e.getMessage());
+            log.warn("Failed to save configuration to file: {}", e.getMessage());
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException ignored) {
+                    // Nothing more to do
+                }
+            }
+        }
+    }
+
+    /**
+     * Write out a pending change before shutdown instead of dropping it
+     */
+    @PreDestroy
+    public synchronized void shutdown() {
+        fileWriter.shutdownNow();
+        if (pendingWrite != null && !pendingWrite.isDone()) {
+            saveConfigurationToFile();
         }
     }
 }
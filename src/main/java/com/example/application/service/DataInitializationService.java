@@ -2,22 +2,43 @@ package com.example.application.service;
 
 import com.example.application.domain.*;
 import com.example.application.repository.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 /**
  * Initializes the Happy Town apartment complex data structure.
  * Creates 4 buildings with their entrances and apartments.
+ * Each building is built in memory and written with batched inserts; {@code shimegch.seed.synthetic-buildings}
+ * and {@code shimegch.seed.months} grow the dataset for load testing (e.g. 100 buildings over 24 months).
  */
 @Service
 public class DataInitializationService implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataInitializationService.class);
+
+    private static final LocalDate LAST_SEED_MONTH = LocalDate.of(2024, 9, 1);
+
+    private static final String[] MONGOLIAN_NAMES = {
+        "Батбаяр", "Оюунчимэг", "Төмөрбаатар", "Сарангэрэл", "Энхбаяр",
+        "Цэцэгмаа", "Болдбаатар", "Алтанцэцэг", "Мөнхбаяр", "Наранцэцэг",
+        "Гантөмөр", "Оюунтуяа", "Батсайхан", "Цэцэгдулам", "Энхтуяа",
+        "Пүрэвбаатар", "Сарантуяа", "Мөнхтуяа", "Баттөмөр", "Цэцэгжаргал",
+        "Баярсайхан", "Алтантуяа", "Гантулга", "Оюунбилэг", "Энхжаргал",
+        "Төмөрсүх", "Сарангоо", "Мөнхсайхан", "Батжаргал", "Цэцэгсүрэн"
+    };
+
     private final BuildingRepository buildingRepository;
     private final EntranceRepository entranceRepository;
     private final ApartmentRepository apartmentRepository;
@@ -25,6 +46,11 @@ public class DataInitializationService implements CommandLineRunner {
     private final PaymentRecordRepository paymentRecordRepository;
     private final RankConfigurationRepository rankConfigurationRepository;
     private final AppConfigurationRepository appConfigurationRepository;
+    private final EntityManager entityManager;
+    private final PaymentPartitions paymentPartitions;
+    private final int syntheticBuildings;
+    private final int monthCount;
+    private final int batchSize;
 
     public DataInitializationService(BuildingRepository buildingRepository,
                                    EntranceRepository entranceRepository,
@@ -32,7 +58,12 @@ public class DataInitializationService implements CommandLineRunner {
                                    HouseholdRepository householdRepository,
                                    PaymentRecordRepository paymentRecordRepository,
                                    RankConfigurationRepository rankConfigurationRepository,
-                                   AppConfigurationRepository appConfigurationRepository) {
+                                   AppConfigurationRepository appConfigurationRepository,
+                                   EntityManager entityManager,
+                                   PaymentPartitions paymentPartitions,
+                                   @Value("${shimegch.seed.synthetic-buildings:0}") int syntheticBuildings,
+                                   @Value("${shimegch.seed.months:3}") int monthCount,
+                                   @Value("${shimegch.seed.batch-size:500}") int batchSize) {
         this.buildingRepository = buildingRepository;
         this.entranceRepository = entranceRepository;
         this.apartmentRepository = apartmentRepository;
@@ -40,6 +71,11 @@ public class DataInitializationService implements CommandLineRunner {
         this.paymentRecordRepository = paymentRecordRepository;
         this.rankConfigurationRepository = rankConfigurationRepository;
         this.appConfigurationRepository = appConfigurationRepository;
+        this.entityManager = entityManager;
+        this.paymentPartitions = paymentPartitions;
+        this.syntheticBuildings = syntheticBuildings;
+        this.monthCount = monthCount;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -49,48 +85,82 @@ public class DataInitializationService implements CommandLineRunner {
             return; // Data already initialized
         }
 
-        initializeBuildings();
+        long start = System.nanoTime();
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
         initializeDefaultRankConfigurations();
-        initializeHouseholdsAndPaymentData();
+
+        Random random = new Random(42); // Fixed seed for consistent data
+        List<LocalDate> months = seedMonths();
+        months.forEach(paymentPartitions::ensurePartition);
+        seedBuilding(new Building("71", 2), random, months);
+        seedBuilding(new Building("72", 3), random, months);
+        seedBuilding(new Building("73", 3), random, months);
+        seedBuilding(new Building("72А", 3), random, months);
+        for (int i = 1; i <= syntheticBuildings; i++) {
+            seedBuilding(new Building("S" + i, 3), random, months);
+        }
+
+        log.info("Seeded {} buildings over {} months in {} ms", 4 + syntheticBuildings, months.size(),
+                 (System.nanoTime() - start) / 1_000_000);
     }
 
-    private void initializeBuildings() {
-        // Building 71 - 2 entrances
-        Building building71 = new Building("71", 2);
-        buildingRepository.save(building71);
-        createEntrancesAndApartments(building71, 2);
-
-        // Building 72 - 3 entrances
-        Building building72 = new Building("72", 3);
-        buildingRepository.save(building72);
-        createEntrancesAndApartments(building72, 3);
-
-        // Building 73 - 3 entrances
-        Building building73 = new Building("73", 3);
-        buildingRepository.save(building73);
-        createEntrancesAndApartments(building73, 3);
-
-        // Building 72А - 3 entrances
-        Building building72A = new Building("72А", 3);
-        buildingRepository.save(building72A);
-        createEntrancesAndApartments(building72A, 3);
+    /**
+     * The seeded months, ending with September 2024
+     */
+    private List<LocalDate> seedMonths() {
+        List<LocalDate> months = new ArrayList<>(monthCount);
+        for (int i = monthCount - 1; i >= 0; i--) {
+            months.add(LAST_SEED_MONTH.minusMonths(i));
+        }
+        return months;
     }
 
-    private void createEntrancesAndApartments(Building building, int entranceCount) {
-        for (int entranceNum = 1; entranceNum <= entranceCount; entranceNum++) {
+    /**
+     * Build one building with its entrances, apartments, households and payment records in memory,
+     * then write it grouped by table so each table is inserted in JDBC batches. The persistence context
+     * is cleared afterwards to keep memory flat for large synthetic datasets.
+     */
+    private void seedBuilding(Building building, Random random, List<LocalDate> months) {
+        List<Entrance> entrances = new ArrayList<>();
+        List<Apartment> apartments = new ArrayList<>();
+        for (int entranceNum = 1; entranceNum <= building.getTotalEntrances(); entranceNum++) {
             Entrance entrance = new Entrance(entranceNum, building);
-            entranceRepository.save(entrance);
+            entrances.add(entrance);
 
             // Create 80 apartments per entrance (16 floors × 6 apartments per floor)
             int doorNumber = 1;
             for (int floor = 1; floor <= 16; floor++) {
                 for (int aptOnFloor = 1; aptOnFloor <= 6; aptOnFloor++) {
-                    Apartment apartment = new Apartment(doorNumber, floor, entrance);
-                    apartmentRepository.save(apartment);
+                    apartments.add(new Apartment(doorNumber, floor, entrance));
                     doorNumber++;
                 }
             }
         }
+
+        List<Household> households = new ArrayList<>(apartments.size());
+        List<PaymentRecord> paymentRecords = new ArrayList<>(apartments.size() * months.size());
+        for (Apartment apartment : apartments) {
+            // Create household for each apartment
+            String householdName = MONGOLIAN_NAMES[random.nextInt(MONGOLIAN_NAMES.length)] + "-ийн гэр бүл";
+            Household household = new Household(householdName, apartment);
+
+            // Add some contact info randomly
+            if (random.nextBoolean()) {
+                household.setContactInfo("Утас: " + (88000000 + random.nextInt(10000000)));
+            }
+            households.add(household);
+
+            createPaymentRecordsForHousehold(household, random, months, paymentRecords);
+        }
+
+        buildingRepository.save(building);
+        entranceRepository.saveAll(entrances);
+        apartmentRepository.saveAll(apartments);
+        householdRepository.saveAll(households);
+        paymentRecordRepository.saveAll(paymentRecords);
+        entityManager.flush();
+        entityManager.clear();
     }
 
     private void initializeDefaultRankConfigurations() {
@@ -113,57 +183,14 @@ public class DataInitializationService implements CommandLineRunner {
         rankConfigurationRepository.save(normalRank);
     }
 
-    private void initializeHouseholdsAndPaymentData() {
-        if (householdRepository.count() > 0) {
-            return; // Data already initialized
-        }
-
-        Random random = new Random(42); // Fixed seed for consistent data
-        List<Apartment> apartments = apartmentRepository.findAll();
-
-        String[] mongolianNames = {
-            "Батбаяр", "Оюунчимэг", "Төмөрбаатар", "Сарангэрэл", "Энхбаяр",
-            "Цэцэгмаа", "Болдбаатар", "Алтанцэцэг", "Мөнхбаяр", "Наранцэцэг",
-            "Гантөмөр", "Оюунтуяа", "Батсайхан", "Цэцэгдулам", "Энхтуяа",
-            "Пүрэвбаатар", "Сарантуяа", "Мөнхтуяа", "Баттөмөр", "Цэцэгжаргал",
-            "Баярсайхан", "Алтантуяа", "Гантулга", "Оюунбилэг", "Энхжаргал",
-            "Төмөрсүх", "Сарангоо", "Мөнхсайхан", "Батжаргал", "Цэцэгсүрэн"
-        };
-
-        for (Apartment apartment : apartments) {
-            // Create household for each apartment
-            String householdName = mongolianNames[random.nextInt(mongolianNames.length)] + "-ийн гэр бүл";
-            Household household = new Household(householdName, apartment);
-
-            // Add some contact info randomly
-            if (random.nextBoolean()) {
-                household.setContactInfo("Утас: " + (88000000 + random.nextInt(10000000)));
-            }
-
-            householdRepository.save(household);
-
-            // Create payment records for July, August, September 2024
-            createPaymentRecordsForHousehold(household, random);
-        }
-    }
-
-    private void createPaymentRecordsForHousehold(Household household, Random random) {
-        // Create records for July, August, September 2024
-        LocalDate[] months = {
-            LocalDate.of(2024, 7, 1),
-            LocalDate.of(2024, 8, 1),
-            LocalDate.of(2024, 9, 1)
-        };
-
+    private void createPaymentRecordsForHousehold(Household household, Random random, List<LocalDate> months,
+                                                  List<PaymentRecord> paymentRecords) {
         BigDecimal previousBalance = generateRandomBalance(random);
 
         for (LocalDate month : months) {
             // Simulate payment behavior - some pay, some don't, some accumulate more debt
             BigDecimal currentBalance = simulateMonthlyPaymentBehavior(previousBalance, random);
-
-            PaymentRecord paymentRecord = new PaymentRecord(household, month, currentBalance);
-            paymentRecordRepository.save(paymentRecord);
-
+            paymentRecords.add(new PaymentRecord(household, month, currentBalance));
             previousBalance = currentBalance;
         }
     }
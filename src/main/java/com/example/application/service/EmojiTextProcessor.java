@@ -0,0 +1,160 @@
+package com.example.application.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces emojis with text for poster rendering, since the embedded PDF fonts have no emoji glyphs.
+ * The emoji table is editable by admins and compiled into a code point lookup so text is processed in a single pass.
+ */
+@Service
+public class EmojiTextProcessor {
+
+    public static final String DEFAULT_TABLE = String.join("\n",
+        "😄=[инээмсэглэл]",
+        "😂=[инээд]",
+        "🤣=[инээд]",
+        "😭=[уйлах]",
+        "😱=[айх]",
+        "💰=[мөнгө]",
+        "💸=[мөнгө алдах]",
+        "🏠=[байшин]",
+        "🔥=[гал]",
+        "⚡=[цахилгаан]",
+        "⏰=[цаг]",
+        "📈=[өсөлт]",
+        "📉=[бууралт]",
+        "❗=!",
+        "❓=?",
+        "👍=[сайн]",
+        "👎=[муу]",
+        "🤔=[бодох]",
+        "😅=[ичих]",
+        "😏=[муу санаа]",
+        "😌=[тайван]",
+        "💪=[хүчтэй]",
+        "💙=[сэтгэл]");
+
+    private static final int VARIATION_SELECTOR_16 = 0xFE0F;
+
+    private final ConfigurationService configurationService;
+
+    private volatile Map<Integer, Substitution[]> table;
+
+    public EmojiTextProcessor(ConfigurationService configurationService) {
+        this.configurationService = configurationService;
+    }
+
+    /**
+     * Recompile the table from configuration. Call after an admin edits the emoji table.
+     */
+    public void refresh() {
+        table = compile(configurationService.getEmojiTable());
+    }
+
+    public String process(String text) {
+        if (text == null) return "";
+
+        Map<Integer, Substitution[]> current = table;
+        if (current == null) {
+            refresh();
+            current = table;
+        }
+
+        StringBuilder result = null;
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            int codePoint = text.codePointAt(i);
+            Substitution match = current.isEmpty() ? null : match(current.get(codePoint), text, i);
+
+            if (match == null) {
+                if (result != null) {
+                    result.appendCodePoint(codePoint);
+                }
+                i += Character.charCount(codePoint);
+                continue;
+            }
+
+            if (result == null) {
+                // Only allocate once the first emoji is found; text without emojis is returned as is
+                result = new StringBuilder(length + 16);
+                result.append(text, 0, i);
+            }
+            append(result, match);
+            i += match.sequence.length();
+            if (i < length && text.codePointAt(i) == VARIATION_SELECTOR_16) {
+                i += Character.charCount(VARIATION_SELECTOR_16);
+            }
+            if (match.padded && i < length && !Character.isWhitespace(text.codePointAt(i))) {
+                result.append(' ');
+            }
+        }
+
+        return result != null ? result.toString() : text;
+    }
+
+    private static Substitution match(Substitution[] candidates, String text, int offset) {
+        if (candidates == null) {
+            return null;
+        }
+        // Candidates are ordered longest first so multi code point sequences win over their prefix
+        for (Substitution candidate : candidates) {
+            if (text.startsWith(candidate.sequence, offset)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static void append(StringBuilder result, Substitution match) {
+        if (match.padded && !result.isEmpty() && !Character.isWhitespace(result.charAt(result.length() - 1))) {
+            result.append(' ');
+        }
+        result.append(match.replacement);
+    }
+
+    /**
+     * Parse a table of {@code emoji=replacement} lines. Blank lines and lines starting with {@code #} are ignored.
+     */
+    static Map<Integer, Substitution[]> compile(String source) {
+        Map<Integer, List<Substitution>> grouped = new HashMap<>();
+        for (String line : source.split("\n")) {
+            String trimmed = line.trim();
+            int separator = trimmed.indexOf('=');
+            if (trimmed.isEmpty() || trimmed.startsWith("#") || separator <= 0) {
+                continue;
+            }
+            String sequence = trimmed.substring(0, separator).trim();
+            String replacement = trimmed.substring(separator + 1).trim();
+            grouped.computeIfAbsent(sequence.codePointAt(0), k -> new ArrayList<>())
+                .add(new Substitution(sequence, replacement));
+        }
+
+        Map<Integer, Substitution[]> compiled = new HashMap<>();
+        grouped.forEach((codePoint, substitutions) -> {
+            substitutions.sort(Comparator.comparingInt((Substitution s) -> s.sequence.length()).reversed());
+            compiled.put(codePoint, substitutions.toArray(new Substitution[0]));
+        });
+        return Map.copyOf(compiled);
+    }
+
+    static final class Substitution {
+        final String sequence;
+        final String replacement;
+        // Word replacements are separated by spaces; single punctuation marks replace the emoji in place
+        final boolean padded;
+
+        Substitution(String sequence, String replacement) {
+            this.sequence = sequence;
+            this.replacement = replacement;
+            this.padded = replacement.codePointCount(0, replacement.length()) > 1
+                || (!replacement.isEmpty() && Character.isLetterOrDigit(replacement.codePointAt(0)));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.example.application.entity.UploadHistory;
 import com.example.application.repository.*;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,15 +26,21 @@ public class ExcelUploadService {
     private final PaymentRecordRepository paymentRecordRepository;
     private final ApartmentRepository apartmentRepository;
     private final UploadHistoryRepository uploadHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PaymentPartitions paymentPartitions;
 
     public ExcelUploadService(HouseholdRepository householdRepository,
                             PaymentRecordRepository paymentRecordRepository,
                             ApartmentRepository apartmentRepository,
-                            UploadHistoryRepository uploadHistoryRepository) {
+                            UploadHistoryRepository uploadHistoryRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            PaymentPartitions paymentPartitions) {
         this.householdRepository = householdRepository;
         this.paymentRecordRepository = paymentRecordRepository;
         this.apartmentRepository = apartmentRepository;
         this.uploadHistoryRepository = uploadHistoryRepository;
+        this.eventPublisher = eventPublisher;
+        this.paymentPartitions = paymentPartitions;
     }
 
     @Transactional
@@ -57,6 +64,14 @@ public class ExcelUploadService {
             return new UploadResult(false, 0, 0, List.of("Файл уншихад алдаа гарлаа"), List.of());
         }
 
+        try {
+            paymentPartitions.ensurePartition(recordMonth);
+        } catch (IllegalStateException e) {
+            uploadHistory.markAsFailed("Сарын хүснэгт үүсгэхэд алдаа гарлаа: " + e.getMessage());
+            uploadHistoryRepository.save(uploadHistory);
+            return new UploadResult(false, 0, 0, List.of("Сарын хүснэгт үүсгэхэд алдаа гарлаа, дахин оролдоно уу"), List.of());
+        }
+
         List<String> errors = new ArrayList<>();
         List<String> warnings = new ArrayList<>();
         int processedRecords = 0;
@@ -104,6 +119,10 @@ public class ExcelUploadService {
         }
 
         uploadHistoryRepository.save(uploadHistory);
+
+        if (processedRecords > 0) {
+            eventPublisher.publishEvent(new PaymentDataUpdatedEvent(recordMonth));
+        }
         return new UploadResult(errors.isEmpty(), processedRecords, updatedRecords, errors, warnings);
     }
 
@@ -0,0 +1,103 @@
+package com.example.application.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable trigram index of household names for substring search when the database has no trigram support.
+ * Candidates from the posting lists are verified against the full name, so results match a plain
+ * case-insensitive {@code contains}.
+ */
+final class HouseholdNameIndex {
+
+    private static final int GRAM = 3;
+    private static final long[] NONE = new long[0];
+
+    private final Map<Long, String> names;
+    private final Map<String, long[]> postings;
+
+    HouseholdNameIndex(Map<Long, String> householdNames) {
+        Map<Long, String> lowerCaseNames = new HashMap<>(householdNames.size() * 2);
+        Map<String, List<Long>> grams = new HashMap<>();
+        for (Map.Entry<Long, String> entry : householdNames.entrySet()) {
+            String name = entry.getValue() != null ? entry.getValue().toLowerCase(Locale.ROOT) : "";
+            lowerCaseNames.put(entry.getKey(), name);
+            for (String gram : gramsOf(name)) {
+                grams.computeIfAbsent(gram, g -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        this.names = lowerCaseNames;
+
+        Map<String, long[]> compiled = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, list) -> {
+            long[] posting = list.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(posting);
+            compiled.put(gram, posting);
+        });
+        this.postings = compiled;
+    }
+
+    /**
+     * Ids of households whose name contains the lower case term
+     */
+    Set<Long> search(String term) {
+        Set<Long> result = new HashSet<>();
+        if (term.length() < GRAM) {
+            // Too short for trigrams; a linear scan over the names is still cheap
+            names.forEach((id, name) -> {
+                if (name.contains(term)) {
+                    result.add(id);
+                }
+            });
+            return result;
+        }
+
+        long[] candidates = null;
+        for (String gram : gramsOf(term)) {
+            long[] posting = postings.getOrDefault(gram, NONE);
+            candidates = candidates == null ? posting : intersect(candidates, posting);
+            if (candidates.length == 0) {
+                return result;
+            }
+        }
+
+        // Sharing all trigrams doesn't guarantee they are adjacent, so confirm each candidate
+        for (long id : candidates) {
+            if (names.get(id).contains(term)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
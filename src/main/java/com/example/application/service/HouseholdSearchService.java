@@ -0,0 +1,188 @@
+package com.example.application.service;
+
+import com.example.application.domain.Household;
+import com.example.application.repository.HouseholdRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Paged household listing with name search for the household management view.
+ * On PostgreSQL the search is a LIKE served by the pg_trgm index from the schema migrations; on other databases (H2 in development)
+ * an in-memory trigram index of household names resolves the matching ids instead. Terms that match more than
+ * {@value #MAX_ID_FILTER} households fall back to the unindexed LIKE rather than sending a huge IN list.
+ */
+@Service
+public class HouseholdSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(HouseholdSearchService.class);
+
+    static final int MAX_ID_FILTER = 1000;
+
+    private final HouseholdRepository householdRepository;
+    private final boolean databaseSearch;
+
+    private volatile HouseholdNameIndex nameIndex;
+    // The grid asks for the count and then each page of the same term; resolve the ids once per term and index
+    private volatile NameMatches lastMatches;
+
+    public HouseholdSearchService(HouseholdRepository householdRepository,
+                                  DataSource dataSource) {
+        this.householdRepository = householdRepository;
+        this.databaseSearch = isPostgreSql(dataSource);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Rebuild the in-memory name index. Call after households are created or renamed.
+     */
+    @Transactional
+    public void refresh() {
+        if (databaseSearch) {
+            return;
+        }
+        Map<Long, String> names = new HashMap<>();
+        for (Object[] row : householdRepository.findAllIdsAndNames()) {
+            names.put((Long) row[0], (String) row[1]);
+        }
+        nameIndex = new HouseholdNameIndex(names);
+    }
+
+    /**
+     * Uploads create households for new apartments, so the index is rebuilt after each committed upload
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPaymentDataUpdated(PaymentDataUpdatedEvent event) {
+        refresh();
+    }
+
+    public List<Household> findHouseholds(HouseholdQuery query, Pageable pageable) {
+        String name = normalize(query.name());
+        if (name == null) {
+            return householdRepository.findPageByLocation(query.buildingNumber(), query.entranceNumber(), pageable);
+        }
+        if (databaseSearch) {
+            return householdRepository.findPageByLocationAndNamePattern(
+                query.buildingNumber(), query.entranceNumber(), likePattern(name), pageable);
+        }
+        Set<Long> ids = matchingIds(name);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > MAX_ID_FILTER) {
+            return householdRepository.findPageByLocationAndNamePattern(
+                query.buildingNumber(), query.entranceNumber(), likePattern(name), pageable);
+        }
+        return householdRepository.findPageByLocationAndIdIn(query.buildingNumber(), query.entranceNumber(), ids, pageable);
+    }
+
+    public long countHouseholds(HouseholdQuery query) {
+        String name = normalize(query.name());
+        if (name == null) {
+            return householdRepository.countByLocation(query.buildingNumber(), query.entranceNumber());
+        }
+        if (databaseSearch) {
+            return householdRepository.countByLocationAndNamePattern(
+                query.buildingNumber(), query.entranceNumber(), likePattern(name));
+        }
+        Set<Long> ids = matchingIds(name);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (ids.size() > MAX_ID_FILTER) {
+            return householdRepository.countByLocationAndNamePattern(
+                query.buildingNumber(), query.entranceNumber(), likePattern(name));
+        }
+        return householdRepository.countByLocationAndIdIn(query.buildingNumber(), query.entranceNumber(), ids);
+    }
+
+    private Set<Long> matchingIds(String name) {
+        HouseholdNameIndex index = index();
+        NameMatches matches = lastMatches;
+        if (matches == null || matches.index() != index || !matches.name().equals(name)) {
+            matches = new NameMatches(index, name, index.search(name));
+            lastMatches = matches;
+        }
+        return matches.ids();
+    }
+
+    private HouseholdNameIndex index() {
+        HouseholdNameIndex current = nameIndex;
+        if (current == null) {
+            refresh();
+            current = nameIndex;
+        }
+        return current;
+    }
+
+    private static boolean isPostgreSql(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgresql");
+        } catch (SQLException e) {
+            log.warn("Could not determine database type, using in-memory household search", e);
+            return false;
+        }
+    }
+
+    static String normalize(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String likePattern(String name) {
+        String escaped = name.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    private record NameMatches(HouseholdNameIndex index, String name, Set<Long> ids) {
+    }
+
+    /**
+     * Location and name filter of the household list. Null values match everything.
+     */
+    public record HouseholdQuery(String buildingNumber, Integer entranceNumber, String name) {
+    }
+
+    /**
+     * Sortable columns of the household list, mapped to the JPQL aliases of the household page queries
+     */
+    public enum HouseholdSort {
+        ADDRESS("b.buildingNumber", "e.entranceNumber", "a.doorNumber"),
+        NAME("h.householdName"),
+        FLOOR("a.floorNumber");
+
+        private final String[] paths;
+
+        HouseholdSort(String... paths) {
+            this.paths = paths;
+        }
+
+        public Sort toSort(Sort.Direction direction) {
+            return JpaSort.unsafe(direction, paths);
+        }
+    }
+}
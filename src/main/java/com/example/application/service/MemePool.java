@@ -0,0 +1,195 @@
+package com.example.application.service;
+
+import com.example.application.entity.MemeConfiguration;
+import com.example.application.repository.MemeConfigurationRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-memory pool of active meme configurations used for poster generation.
+ * The pool is an immutable snapshot per meme type that is swapped whenever an admin changes the memes,
+ * so picking a meme never touches the database.
+ */
+@Service
+public class MemePool {
+
+    private static final MemeConfiguration[] EMPTY = new MemeConfiguration[0];
+
+    private final MemeConfigurationRepository memeConfigurationRepository;
+
+    private volatile Map<MemeConfiguration.MemeType, Entries> snapshot;
+    private volatile long generation;
+
+    public MemePool(MemeConfigurationRepository memeConfigurationRepository) {
+        this.memeConfigurationRepository = memeConfigurationRepository;
+    }
+
+    /**
+     * Reload the pool once the default memes have been seeded
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Reload active memes from the database. Call after any admin change to meme configurations.
+     * Read-write, so the reload runs on the primary and sees the change even with a lagging replica.
+     */
+    @Transactional
+    public synchronized void refresh() {
+        Map<MemeConfiguration.MemeType, Entries> loaded = new EnumMap<>(MemeConfiguration.MemeType.class);
+        for (MemeConfiguration.MemeType type : MemeConfiguration.MemeType.values()) {
+            List<MemeConfiguration> active = memeConfigurationRepository.findByMemeTypeAndIsActiveTrueOrderByDisplayOrder(type);
+            loaded.put(type, new Entries(active.toArray(EMPTY)));
+        }
+        snapshot = loaded;
+        generation++;
+    }
+
+    /**
+     * Counter that changes every time the pool is reloaded
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Pick a random active meme of the given type, honouring weights
+     */
+    public MemeConfiguration pick(MemeConfiguration.MemeType type) {
+        return entries(type).pick(null);
+    }
+
+    public MemeConfiguration pickImage() {
+        return pick(MemeConfiguration.MemeType.IMAGE_URL);
+    }
+
+    public MemeConfiguration pickText() {
+        return pick(MemeConfiguration.MemeType.TEXT);
+    }
+
+    /**
+     * Start a bulk run in which no meme is repeated until every active meme of that type has been used
+     */
+    public Draw newDraw() {
+        return new Draw();
+    }
+
+    private Entries entries(MemeConfiguration.MemeType type) {
+        Map<MemeConfiguration.MemeType, Entries> current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current.get(type);
+    }
+
+    private static int weightOf(MemeConfiguration meme) {
+        Integer weight = meme.getWeight();
+        return weight != null && weight > 0 ? weight : 1;
+    }
+
+    /**
+     * Immutable array of memes with cumulative weights for O(log n) weighted picks
+     */
+    private static final class Entries {
+        private final MemeConfiguration[] memes;
+        private final int[] cumulativeWeights;
+
+        Entries(MemeConfiguration[] memes) {
+            this.memes = memes;
+            this.cumulativeWeights = new int[memes.length];
+            int total = 0;
+            for (int i = 0; i < memes.length; i++) {
+                total += weightOf(memes[i]);
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        int size() {
+            return memes.length;
+        }
+
+        /**
+         * Weighted pick among entries not marked in {@code used}; {@code null} means all are eligible
+         */
+        MemeConfiguration pick(BitSet used) {
+            if (memes.length == 0) {
+                return null;
+            }
+            if (used == null || used.isEmpty()) {
+                int total = cumulativeWeights[memes.length - 1];
+                int target = ThreadLocalRandom.current().nextInt(total);
+                int index = Arrays.binarySearch(cumulativeWeights, target + 1);
+                return memes[index >= 0 ? index : -index - 1];
+            }
+
+            int remaining = 0;
+            for (int i = used.nextClearBit(0); i < memes.length; i = used.nextClearBit(i + 1)) {
+                remaining += weightOf(memes[i]);
+            }
+            int target = ThreadLocalRandom.current().nextInt(remaining);
+            for (int i = used.nextClearBit(0); i < memes.length; i = used.nextClearBit(i + 1)) {
+                target -= weightOf(memes[i]);
+                if (target < 0) {
+                    return memes[i];
+                }
+            }
+            return memes[used.previousClearBit(memes.length - 1)];
+        }
+
+        int indexOf(MemeConfiguration meme) {
+            for (int i = 0; i < memes.length; i++) {
+                if (memes[i] == meme) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * No-repeat selection state for one bulk run, e.g. all posters of a staircase.
+     * Not thread-safe; use one draw per run.
+     */
+    public final class Draw {
+        private final Map<MemeConfiguration.MemeType, BitSet> used = new EnumMap<>(MemeConfiguration.MemeType.class);
+        private final Map<MemeConfiguration.MemeType, Entries> pinned = new EnumMap<>(MemeConfiguration.MemeType.class);
+
+        private Draw() {
+        }
+
+        public MemeConfiguration next(MemeConfiguration.MemeType type) {
+            // Pin the snapshot so an admin refresh mid-run doesn't invalidate the used indexes
+            Entries entries = pinned.computeIfAbsent(type, MemePool.this::entries);
+            if (entries.size() == 0) {
+                return null;
+            }
+            BitSet usedIndexes = used.computeIfAbsent(type, t -> new BitSet(entries.size()));
+            if (usedIndexes.cardinality() >= entries.size()) {
+                usedIndexes.clear();
+            }
+            MemeConfiguration meme = entries.pick(usedIndexes);
+            usedIndexes.set(entries.indexOf(meme));
+            return meme;
+        }
+
+        public MemeConfiguration nextImage() {
+            return next(MemeConfiguration.MemeType.IMAGE_URL);
+        }
+
+        public MemeConfiguration nextText() {
+            return next(MemeConfiguration.MemeType.TEXT);
+        }
+    }
+}
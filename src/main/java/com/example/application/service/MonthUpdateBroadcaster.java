@@ -0,0 +1,70 @@
+package com.example.application.service;
+
+import com.vaadin.flow.shared.Registration;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * In-process bus that tells open views a month's payment data changed after an upload committed.
+ * Listeners are called on a background thread and must use {@code UI.access} to touch components.
+ */
+@Component
+public class MonthUpdateBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthUpdateBroadcaster.class);
+
+    private final List<Consumer<MonthUpdate>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "month-update-broadcaster");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public Registration register(Consumer<MonthUpdate> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    public void broadcast(MonthUpdate update) {
+        for (Consumer<MonthUpdate> listener : listeners) {
+            executor.execute(() -> {
+                try {
+                    listener.accept(update);
+                } catch (Exception e) {
+                    log.warn("Month update listener failed for {}", update.month(), e);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Households of a month whose payment data changed in an upload
+     */
+    public record MonthUpdate(LocalDate month, List<Change> changes) {
+
+        public boolean isEmpty() {
+            return changes.isEmpty();
+        }
+    }
+
+    /**
+     * One household's row before and after the upload; {@code before} is null for households new to the month
+     */
+    public record Change(PaymentAnalysisService.HouseholdPaymentInfo before,
+                         PaymentAnalysisService.HouseholdPaymentInfo after) {
+    }
+}
@@ -2,6 +2,7 @@ package com.example.application.service;
 
 import com.example.application.domain.*;
 import com.example.application.repository.*;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -73,9 +74,8 @@ public class PaymentAnalysisService {
 
         // Categorize households
         for (PaymentRecord record : latestRecords) {
-            HouseholdPaymentInfo info = createHouseholdPaymentInfo(record);
-            String category = determineRankCategory(info.outstandingBalance, ranks);
-            categorized.get(category).add(info);
+            HouseholdPaymentInfo info = createHouseholdPaymentInfo(record, ranks);
+            categorized.get(info.rankCategory).add(info);
         }
 
         // Sort each category by balance descending
@@ -103,9 +103,8 @@ public class PaymentAnalysisService {
 
         // Categorize households
         for (PaymentRecord record : monthRecords) {
-            HouseholdPaymentInfo info = createHouseholdPaymentInfo(record);
-            String category = determineRankCategory(info.outstandingBalance, ranks);
-            categorized.get(category).add(info);
+            HouseholdPaymentInfo info = createHouseholdPaymentInfo(record, ranks);
+            categorized.get(info.rankCategory).add(info);
         }
 
         // Sort each category by balance descending
@@ -115,6 +114,98 @@ public class PaymentAnalysisService {
         return categorized;
     }
 
+    /**
+     * Filter for the household list. Null values match everything.
+     */
+    public record HouseholdFilter(LocalDate month, String buildingNumber, Integer entranceNumber,
+                                  Integer floorNumber, String rankName, BigDecimal minAmount, BigDecimal maxAmount) {
+
+        /**
+         * Whether a household of the filtered month passes the location, rank and amount filters
+         */
+        public boolean matches(HouseholdPaymentInfo info) {
+            return (buildingNumber == null || buildingNumber.equals(info.buildingNumber))
+                && (entranceNumber == null || entranceNumber.equals(info.entranceNumber))
+                && (floorNumber == null || floorNumber.equals(info.floorNumber))
+                && (rankName == null || rankName.equals(info.rankCategory))
+                && (minAmount == null || info.outstandingBalance.compareTo(minAmount) >= 0)
+                && (maxAmount == null || info.outstandingBalance.compareTo(maxAmount) <= 0);
+        }
+    }
+
+    /**
+     * Sort keys for the household list, applied to read model snapshots
+     */
+    public enum HouseholdSort {
+        ADDRESS(Comparator.comparing((HouseholdPaymentInfo info) -> info.buildingNumber)
+                    .thenComparing(info -> info.entranceNumber)
+                    .thenComparing(info -> info.doorNumber)),
+        BALANCE(Comparator.comparing((HouseholdPaymentInfo info) -> info.outstandingBalance));
+
+        private final Comparator<HouseholdPaymentInfo> comparator;
+
+        HouseholdSort(Comparator<HouseholdPaymentInfo> comparator) {
+            this.comparator = comparator;
+        }
+
+        public Comparator<HouseholdPaymentInfo> comparator(Sort.Direction direction) {
+            return direction == Sort.Direction.DESC ? comparator.reversed() : comparator;
+        }
+    }
+
+    /**
+     * One sort column of the household list
+     */
+    public record HouseholdSortOrder(HouseholdSort sort, Sort.Direction direction) {
+    }
+
+    /**
+     * Load everything the views show for one month with a single payment record query.
+     * Read-write, so it runs on the primary: the snapshot is cached application-wide until the next upload,
+     * and one loaded from a lagging replica would keep showing the month as it was before that upload.
+     */
+    @Transactional
+    public PaymentReadModel.MonthSnapshot loadMonthSnapshot(LocalDate month) {
+        List<RankConfiguration> ranks = rankConfigurationRepository.findActiveRanksOrderByThresholdDesc();
+        List<PaymentRecord> monthRecords = paymentRecordRepository.findByRecordMonth(month);
+
+        List<HouseholdPaymentInfo> households = monthRecords.stream()
+            .map(record -> createHouseholdPaymentInfo(record, ranks))
+            .sorted((a, b) -> b.outstandingBalance.compareTo(a.outstandingBalance))
+            .toList();
+
+        Map<String, List<HouseholdPaymentInfo>> categorized = new LinkedHashMap<>();
+        for (RankConfiguration rank : ranks) {
+            categorized.put(rank.getRankName(), new ArrayList<>());
+        }
+        categorized.put("Normal", new ArrayList<>());
+        for (HouseholdPaymentInfo info : households) {
+            categorized.get(info.rankCategory).add(info);
+        }
+        categorized.replaceAll((rankName, list) -> List.copyOf(list));
+
+        Map<String, List<PaymentRecord>> recordsByBuilding = monthRecords.stream()
+            .collect(Collectors.groupingBy(record ->
+                record.getHousehold().getApartment().getEntrance().getBuilding().getBuildingNumber()));
+
+        List<BuildingStatistics> buildingStatistics = recordsByBuilding.entrySet().stream()
+            .map(entry -> createBuildingStatistics(entry.getKey(), entry.getValue()))
+            .sorted(Comparator.comparing(BuildingStatistics::getBuildingNumber))
+            .toList();
+
+        Map<String, List<EntranceStatistics>> entranceStatistics = new HashMap<>();
+        recordsByBuilding.forEach((buildingNumber, records) -> entranceStatistics.put(buildingNumber,
+            records.stream()
+                .collect(Collectors.groupingBy(record -> record.getHousehold().getApartment().getEntrance().getEntranceNumber()))
+                .entrySet().stream()
+                .map(entry -> createEntranceStatistics(buildingNumber, entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(EntranceStatistics::getEntranceNumber))
+                .toList()));
+
+        return new PaymentReadModel.MonthSnapshot(month, households, Collections.unmodifiableMap(categorized),
+            buildingStatistics, Map.copyOf(entranceStatistics));
+    }
+
     /**
      * Get payment statistics by building
      */
@@ -169,6 +260,10 @@ public class PaymentAnalysisService {
     }
 
     private HouseholdPaymentInfo createHouseholdPaymentInfo(PaymentRecord record) {
+        return createHouseholdPaymentInfo(record, rankConfigurationRepository.findActiveRanksOrderByThresholdDesc());
+    }
+
+    private HouseholdPaymentInfo createHouseholdPaymentInfo(PaymentRecord record, List<RankConfiguration> ranks) {
         Household household = record.getHousehold();
         Apartment apartment = household.getApartment();
         Entrance entrance = apartment.getEntrance();
@@ -183,12 +278,11 @@ public class PaymentAnalysisService {
             apartment.getFloorNumber(),
             record.getOutstandingBalance(),
             record.getRecordMonth(),
-            determineRankCategory(record.getOutstandingBalance(), 
-                rankConfigurationRepository.findActiveRanksOrderByThresholdDesc())
+            determineRankCategory(record.getOutstandingBalance(), ranks)
         );
     }
 
-    private String determineRankCategory(BigDecimal balance, List<RankConfiguration> ranks) {
+    static String determineRankCategory(BigDecimal balance, List<RankConfiguration> ranks) {
         for (RankConfiguration rank : ranks) {
             if (balance.compareTo(rank.getThresholdAmount()) >= 0) {
                 return rank.getRankName();
@@ -315,13 +409,13 @@ public class PaymentAnalysisService {
     @Transactional(readOnly = true)
     public List<PaymentHistoryInfo> getHouseholdPaymentHistory(Long householdId) {
         List<PaymentRecord> records = paymentRecordRepository.findByHouseholdIdOrderByRecordMonth(householdId);
+        List<RankConfiguration> ranks = rankConfigurationRepository.findActiveRanksOrderByThresholdDesc();
 
         return records.stream()
             .map(record -> new PaymentHistoryInfo(
                 record.getRecordMonth(),
                 record.getOutstandingBalance(),
-                determineRankCategory(record.getOutstandingBalance(),
-                    rankConfigurationRepository.findActiveRanksOrderByThresholdDesc())
+                determineRankCategory(record.getOutstandingBalance(), ranks)
             ))
             .collect(Collectors.toList());
     }
@@ -0,0 +1,10 @@
+package com.example.application.service;
+
+import java.time.LocalDate;
+
+/**
+ * Published when an upload has changed the payment records of a month.
+ * Listeners that cache month data should use {@code @TransactionalEventListener} so they only react after commit.
+ */
+public record PaymentDataUpdatedEvent(LocalDate recordMonth) {
+}
@@ -0,0 +1,142 @@
+package com.example.application.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Yearly partitions of payment_record on PostgreSQL (see the V2 migration). The partition of a year is created
+ * before the first upload into it, and past years can be archived from the admin view.
+ * On other databases payment_record is a plain table and this does nothing.
+ * <p>
+ * An archived year is a standalone table, {@code payment_record_archive_y<year>}. To remove it for good:
+ * {@code pg_dump -t payment_record_archive_y<year>}, check the dump restores, then {@code DROP TABLE} it.
+ */
+@Service
+public class PaymentPartitions {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentPartitions.class);
+
+    private static final String ATTACHED_SQL = "SELECT EXISTS (SELECT 1 FROM pg_inherits i "
+        + "JOIN pg_class child ON child.oid = i.inhrelid "
+        + "JOIN pg_class parent ON parent.oid = i.inhparent "
+        + "WHERE parent.relname = 'payment_record' AND child.relname = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate ddlTransaction;
+    private final AvailableMonths availableMonths;
+    private final PaymentReadModel paymentReadModel;
+    private final boolean partitioned;
+
+    // Years whose partition is known to be attached
+    private final Set<Integer> attachedYears = ConcurrentHashMap.newKeySet();
+
+    public PaymentPartitions(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             DataSource dataSource,
+                             AvailableMonths availableMonths,
+                             PaymentReadModel paymentReadModel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ddlTransaction = new TransactionTemplate(transactionManager);
+        // Partition DDL locks the parent table, so it runs and commits on its own instead of inside an upload
+        this.ddlTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.availableMonths = availableMonths;
+        this.paymentReadModel = paymentReadModel;
+        this.partitioned = isPostgreSql(dataSource);
+    }
+
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    /**
+     * Make sure the partition holding the month exists, or fail. Rows must never fall through into the default
+     * partition: once it holds rows of a year, that year can no longer get a partition of its own.
+     *
+     * @throws IllegalStateException if the partition could not be created; nothing is recorded, so the next call retries
+     */
+    public void ensurePartition(LocalDate month) {
+        int year = month.getYear();
+        if (!partitioned || attachedYears.contains(year)) {
+            return;
+        }
+        if (!isAttached(year)) {
+            try {
+                ddlTransaction.executeWithoutResult(status -> jdbcTemplate.execute(
+                    "CREATE TABLE " + partitionName(year) + " PARTITION OF payment_record "
+                        + "FOR VALUES FROM ('" + LocalDate.of(year, 1, 1) + "') TO ('" + LocalDate.of(year + 1, 1, 1) + "')"));
+                log.info("Created payment_record partition {}", partitionName(year));
+            } catch (RuntimeException e) {
+                // Another instance may have created it meanwhile
+                if (!isAttached(year)) {
+                    throw new IllegalStateException("Could not create payment_record partition for " + year, e);
+                }
+            }
+        }
+        attachedYears.add(year);
+    }
+
+    /**
+     * Archive a past year: detach its partition, so its rows leave every query, and rename it to
+     * {@code payment_record_archive_y<year>}. A later upload into that year starts a fresh partition.
+     *
+     * @return {@code false} if payment_record is not partitioned on this database and nothing was done
+     * @throws IllegalArgumentException if the year is not in the past or has no partition
+     */
+    public boolean detachYear(int year) {
+        if (!partitioned) {
+            log.info("payment_record is not partitioned on this database, nothing to archive for {}", year);
+            return false;
+        }
+        if (year >= LocalDate.now().getYear()) {
+            throw new IllegalArgumentException("Only past years can be archived: " + year);
+        }
+        if (!isAttached(year)) {
+            throw new IllegalArgumentException("payment_record has no partition for " + year);
+        }
+
+        ddlTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE payment_record DETACH PARTITION " + partitionName(year));
+            jdbcTemplate.execute("ALTER TABLE " + partitionName(year) + " RENAME TO " + archiveName(year));
+        });
+        attachedYears.remove(year);
+        log.info("Archived payment_record partition for {} as {}", year, archiveName(year));
+
+        availableMonths.refresh();
+        paymentReadModel.invalidateAll();
+        return true;
+    }
+
+    private boolean isAttached(int year) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(ATTACHED_SQL, Boolean.class, partitionName(year)));
+    }
+
+    private static String partitionName(int year) {
+        return "payment_record_y" + year;
+    }
+
+    private static String archiveName(int year) {
+        return "payment_record_archive_y" + year;
+    }
+
+    private static boolean isPostgreSql(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgresql");
+        } catch (SQLException e) {
+            log.warn("Could not determine database type, payment_record partitions are not managed", e);
+            return false;
+        }
+    }
+}
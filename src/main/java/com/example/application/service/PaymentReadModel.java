@@ -0,0 +1,263 @@
+package com.example.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Application-wide, immutable read model of each month's payment data, shared by all UI sessions.
+ * A month is loaded with one query the first time any view asks for it and is replaced atomically
+ * after each committed upload for that month, so concurrent viewers never repeat the same queries.
+ */
+@Service
+public class PaymentReadModel {
+
+    private final PaymentAnalysisService paymentAnalysisService;
+    private final AvailableMonths availableMonths;
+    private final MonthUpdateBroadcaster monthUpdateBroadcaster;
+    private final int maxMonths;
+
+    // Sorted so the oldest month is evicted first once more than maxMonths are loaded
+    private final ConcurrentSkipListMap<LocalDate, MonthSnapshot> snapshots = new ConcurrentSkipListMap<>();
+    private final Map<LocalDate, Object> loadLocks = new ConcurrentHashMap<>();
+    // Bumped by invalidateAll; a snapshot loaded before the bump is stale and must not be stored
+    private final AtomicLong generation = new AtomicLong();
+
+    public PaymentReadModel(PaymentAnalysisService paymentAnalysisService,
+                            AvailableMonths availableMonths,
+                            MonthUpdateBroadcaster monthUpdateBroadcaster,
+                            @Value("${shimegch.read-model.max-months:24}") int maxMonths) {
+        this.paymentAnalysisService = paymentAnalysisService;
+        this.availableMonths = availableMonths;
+        this.monthUpdateBroadcaster = monthUpdateBroadcaster;
+        this.maxMonths = maxMonths;
+    }
+
+    /**
+     * Snapshot of a month, loading it on first use
+     */
+    public MonthSnapshot month(LocalDate month) {
+        MonthSnapshot snapshot = snapshots.get(month);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        // One loader per month; other sessions asking for the same month wait for its result
+        synchronized (loadLocks.computeIfAbsent(month, m -> new Object())) {
+            snapshot = snapshots.get(month);
+            return snapshot != null ? snapshot : load(month);
+        }
+    }
+
+    /**
+     * Snapshot of the most recent month with payment data, or an empty snapshot if nothing was uploaded yet
+     */
+    public MonthSnapshot latest() {
+        Optional<LocalDate> month = latestMonth();
+        return month.isPresent() ? month(month.get()) : MonthSnapshot.EMPTY;
+    }
+
+    public Optional<LocalDate> latestMonth() {
+        return availableMonths.latest();
+    }
+
+    /**
+     * Rebuild the uploaded month once the upload has committed, swap it in for all sessions
+     * and broadcast the households that changed to open views. Runs read-write so the reload
+     * sees the upload on the primary database even when read-only queries go to a replica.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onPaymentDataUpdated(PaymentDataUpdatedEvent event) {
+        LocalDate month = event.recordMonth();
+        MonthSnapshot previous;
+        MonthSnapshot updated;
+        synchronized (loadLocks.computeIfAbsent(month, m -> new Object())) {
+            previous = snapshots.get(month);
+            updated = load(month);
+        }
+        monthUpdateBroadcaster.broadcast(new MonthUpdateBroadcaster.MonthUpdate(month, changesBetween(previous, updated)));
+    }
+
+    private static List<MonthUpdateBroadcaster.Change> changesBetween(MonthSnapshot previous, MonthSnapshot updated) {
+        Map<Long, PaymentAnalysisService.HouseholdPaymentInfo> before = new HashMap<>();
+        if (previous != null) {
+            previous.getHouseholds().forEach(info -> before.put(info.householdId, info));
+        }
+
+        List<MonthUpdateBroadcaster.Change> changes = new ArrayList<>();
+        for (PaymentAnalysisService.HouseholdPaymentInfo after : updated.getHouseholds()) {
+            PaymentAnalysisService.HouseholdPaymentInfo old = before.get(after.householdId);
+            if (old == null
+                || old.outstandingBalance.compareTo(after.outstandingBalance) != 0
+                || !old.rankCategory.equals(after.rankCategory)) {
+                changes.add(new MonthUpdateBroadcaster.Change(old, after));
+            }
+        }
+        return List.copyOf(changes);
+    }
+
+    /**
+     * Drop every snapshot, e.g. after a rank configuration change. Months are reloaded on next use.
+     */
+    public void invalidateAll() {
+        synchronized (generation) {
+            generation.incrementAndGet();
+            snapshots.clear();
+        }
+    }
+
+    /**
+     * Load and store a month, loading again if the model was invalidated meanwhile. Callers hold the month's lock.
+     */
+    private MonthSnapshot load(LocalDate month) {
+        while (true) {
+            long loadGeneration = generation.get();
+            MonthSnapshot snapshot = paymentAnalysisService.loadMonthSnapshot(month);
+            if (store(snapshot, loadGeneration)) {
+                return snapshot;
+            }
+        }
+    }
+
+    /**
+     * Store a snapshot unless the model was invalidated since its load started
+     *
+     * @return {@code false} if the snapshot is stale and has to be loaded again
+     */
+    private boolean store(MonthSnapshot snapshot, long loadGeneration) {
+        synchronized (generation) {
+            if (generation.get() != loadGeneration) {
+                return false;
+            }
+            snapshots.put(snapshot.getMonth(), snapshot);
+            while (snapshots.size() > maxMonths) {
+                snapshots.pollFirstEntry();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Immutable view data of one month: households ordered by balance, rank categories and statistics.
+     */
+    public static final class MonthSnapshot {
+
+        static final MonthSnapshot EMPTY = new MonthSnapshot(null, List.of(), Map.of(), List.of(), Map.of());
+
+        private final LocalDate month;
+        private final List<PaymentAnalysisService.HouseholdPaymentInfo> households;
+        private final Map<String, List<PaymentAnalysisService.HouseholdPaymentInfo>> householdsByRank;
+        private final List<PaymentAnalysisService.BuildingStatistics> buildingStatistics;
+        private final Map<String, List<PaymentAnalysisService.EntranceStatistics>> entranceStatistics;
+        // Households in each grid sort order, built on first use and shared by every session
+        private final Map<List<PaymentAnalysisService.HouseholdSortOrder>, List<PaymentAnalysisService.HouseholdPaymentInfo>>
+            sortedHouseholds = new ConcurrentHashMap<>();
+
+        MonthSnapshot(LocalDate month,
+                      List<PaymentAnalysisService.HouseholdPaymentInfo> households,
+                      Map<String, List<PaymentAnalysisService.HouseholdPaymentInfo>> householdsByRank,
+                      List<PaymentAnalysisService.BuildingStatistics> buildingStatistics,
+                      Map<String, List<PaymentAnalysisService.EntranceStatistics>> entranceStatistics) {
+            this.month = month;
+            this.households = households;
+            this.householdsByRank = householdsByRank;
+            this.buildingStatistics = buildingStatistics;
+            this.entranceStatistics = entranceStatistics;
+        }
+
+        public LocalDate getMonth() { return month; }
+
+        /**
+         * All households of the month, highest balance first
+         */
+        public List<PaymentAnalysisService.HouseholdPaymentInfo> getHouseholds() { return households; }
+
+        /**
+         * Households per rank in rank order, ending with "Normal", each highest balance first
+         */
+        public Map<String, List<PaymentAnalysisService.HouseholdPaymentInfo>> getHouseholdsByRank() { return householdsByRank; }
+
+        public List<PaymentAnalysisService.BuildingStatistics> getBuildingStatistics() { return buildingStatistics; }
+
+        public List<PaymentAnalysisService.EntranceStatistics> getEntranceStatistics(String buildingNumber) {
+            return entranceStatistics.getOrDefault(buildingNumber, List.of());
+        }
+
+        /**
+         * Households with a balance of at least the threshold, highest balance first
+         */
+        public List<PaymentAnalysisService.HouseholdPaymentInfo> getHouseholdsAboveThreshold(BigDecimal threshold) {
+            // Households are ordered by balance, so the matches are a prefix of the list
+            int end = 0;
+            while (end < households.size() && households.get(end).outstandingBalance.compareTo(threshold) >= 0) {
+                end++;
+            }
+            return households.subList(0, end);
+        }
+
+        /**
+         * All households in the given order, then by address. Views page through this list instead of
+         * keeping their own sorted copy; there are only a handful of distinct orders per month.
+         */
+        public List<PaymentAnalysisService.HouseholdPaymentInfo> sorted(List<PaymentAnalysisService.HouseholdSortOrder> orders) {
+            return sortedHouseholds.computeIfAbsent(List.copyOf(orders),
+                key -> households.stream().sorted(comparator(key)).toList());
+        }
+
+        /**
+         * One page of the households matching the filter, in the given order
+         */
+        public List<PaymentAnalysisService.HouseholdPaymentInfo> page(PaymentAnalysisService.HouseholdFilter filter,
+                                                                     List<PaymentAnalysisService.HouseholdSortOrder> orders,
+                                                                     int offset, int limit) {
+            return sorted(orders).stream()
+                .filter(filter::matches)
+                .skip(offset)
+                .limit(limit)
+                .toList();
+        }
+
+        public int count(PaymentAnalysisService.HouseholdFilter filter) {
+            return (int) households.stream().filter(filter::matches).count();
+        }
+
+        private static Comparator<PaymentAnalysisService.HouseholdPaymentInfo> comparator(
+                List<PaymentAnalysisService.HouseholdSortOrder> orders) {
+            Comparator<PaymentAnalysisService.HouseholdPaymentInfo> comparator = null;
+            for (PaymentAnalysisService.HouseholdSortOrder order : orders) {
+                Comparator<PaymentAnalysisService.HouseholdPaymentInfo> next = order.sort().comparator(order.direction());
+                comparator = comparator == null ? next : comparator.thenComparing(next);
+            }
+            // Address order is the default and the tie breaker
+            Comparator<PaymentAnalysisService.HouseholdPaymentInfo> address =
+                PaymentAnalysisService.HouseholdSort.ADDRESS.comparator(Sort.Direction.ASC);
+            return comparator == null ? address : comparator.thenComparing(address);
+        }
+
+        /**
+         * The households matching the filter, in the given order
+         */
+        public List<PaymentAnalysisService.HouseholdPaymentInfo> filter(PaymentAnalysisService.HouseholdFilter filter,
+                                                                       Comparator<PaymentAnalysisService.HouseholdPaymentInfo> order) {
+            return households.stream()
+                .filter(filter::matches)
+                .sorted(order)
+                .toList();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of rendered poster PDFs.
+ * Eviction is driven by the total size of the cached PDFs rather than the number of entries.
+ */
+@Component
+public class PosterCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<PosterKey, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public PosterCache(@Value("${shimegch.poster.cache.max-bytes:33554432}") long maxBytes,
+                       MeterRegistry meterRegistry) {
+        this.maxBytes = maxBytes;
+        this.hits = Counter.builder("shimegch.poster.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("shimegch.poster.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("shimegch.poster.cache.bytes", this, PosterCache::getCurrentBytes)
+            .description("Total size of cached poster PDFs")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Return the cached poster for the key, rendering and caching it on a miss
+     */
+    public byte[] get(PosterKey key, Supplier<byte[]> renderer) {
+        synchronized (this) {
+            byte[] cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+
+        // Render outside the lock so concurrent misses for different households don't serialize
+        byte[] rendered = renderer.get();
+        put(key, rendered);
+        return rendered;
+    }
+
+    private synchronized void put(PosterKey key, byte[] pdf) {
+        if (pdf.length > maxBytes) {
+            return;
+        }
+        byte[] previous = entries.put(key, pdf);
+        if (previous != null) {
+            currentBytes -= previous.length;
+        }
+        currentBytes += pdf.length;
+
+        Iterator<byte[]> eldest = entries.values().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            currentBytes -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Drop all posters of a month, e.g. after an upload for that month
+     */
+    public synchronized void invalidateMonth(LocalDate month) {
+        Iterator<Map.Entry<PosterKey, byte[]>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<PosterKey, byte[]> entry = iterator.next();
+            if (entry.getKey().month().equals(month)) {
+                currentBytes -= entry.getValue().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPaymentDataUpdated(PaymentDataUpdatedEvent event) {
+        invalidateMonth(event.recordMonth());
+    }
+
+    /**
+     * Drop every cached poster, e.g. after a rank configuration change
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Everything that determines the rendered content of a poster.
+     * The meme generation changes whenever the meme pool is reloaded, so a cached poster
+     * never shows a meme the admin has since removed.
+     */
+    public record PosterKey(Long householdId, LocalDate month, BigDecimal balance, String rankCategory,
+                            int templateVersion, long memeGeneration) {
+
+        public PosterKey {
+            // BigDecimal equality is scale-sensitive; 1000.00 and 1000 must hit the same entry
+            balance = balance.stripTrailingZeros();
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.application.service;
 
 import com.example.application.entity.MemeConfiguration;
-import com.example.application.repository.MemeConfigurationRepository;
 import com.itextpdf.io.font.PdfEncodings;
 import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.io.font.FontProgramFactory;
@@ -10,24 +9,38 @@ import com.itextpdf.kernel.colors.DeviceRgb;
 import com.itextpdf.kernel.font.PdfFont;
 import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
+import com.itextpdf.layout.borders.DashedBorder;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Image;
 import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.element.Text;
+import com.itextpdf.layout.properties.AreaBreakType;
 import com.itextpdf.layout.properties.HorizontalAlignment;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.io.image.ImageData;
 import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.layout.properties.UnitValue;
-import org.springframework.beans.factory.annotation.Autowired;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.text.NumberFormat;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Locale;
-import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service for generating debt collection posters as PDF
@@ -35,10 +48,110 @@ import java.util.Random;
 @Service
 public class PosterGeneratorService {
 
-    @Autowired
-    private MemeConfigurationRepository memeConfigurationRepository;
+    /**
+     * Bump whenever the poster layout changes so cached posters are re-rendered
+     */
+    public static final int TEMPLATE_VERSION = 1;
+
+    private static final float SHEET_MARGIN = 18;
+
+    private static final Comparator<PaymentAnalysisService.HouseholdPaymentInfo> WALKING_ROUTE_ORDER =
+        Comparator.comparing((PaymentAnalysisService.HouseholdPaymentInfo info) -> info.buildingNumber,
+                             PosterGeneratorService::compareBuildingNumbers)
+            .thenComparing(info -> info.entranceNumber)
+            .thenComparing(info -> info.floorNumber)
+            .thenComparing(info -> info.doorNumber);
+
+    private static final Logger log = LoggerFactory.getLogger(PosterGeneratorService.class);
+
+    private final MemePool memePool;
+    private final PosterCache posterCache;
+    private final EmojiTextProcessor emojiTextProcessor;
+
+    private final Timer renderTimer;
+    private final Timer fontLoadTimer;
+    private final Timer memeLookupTimer;
+    private final Timer imageFetchTimer;
+    private final Timer layoutTimer;
+    private final Counter renderFailures;
+    private final Counter imageFetchFailures;
+
+    public PosterGeneratorService(MemePool memePool,
+                                PosterCache posterCache,
+                                EmojiTextProcessor emojiTextProcessor,
+                                MeterRegistry meterRegistry) {
+        this.memePool = memePool;
+        this.posterCache = posterCache;
+        this.emojiTextProcessor = emojiTextProcessor;
+
+        this.renderTimer = Timer.builder("shimegch.poster.render")
+            .description("Total time to render one poster PDF")
+            .register(meterRegistry);
+        this.fontLoadTimer = phaseTimer(meterRegistry, "font_load");
+        this.memeLookupTimer = phaseTimer(meterRegistry, "meme_lookup");
+        this.imageFetchTimer = phaseTimer(meterRegistry, "image_fetch");
+        this.layoutTimer = phaseTimer(meterRegistry, "layout");
+        this.renderFailures = Counter.builder("shimegch.poster.render.failures")
+            .description("Poster renders that failed")
+            .register(meterRegistry);
+        this.imageFetchFailures = Counter.builder("shimegch.poster.image.failures")
+            .description("Meme images that could not be fetched and were replaced by a placeholder")
+            .register(meterRegistry);
+    }
 
-    private final Random random = new Random();
+    /**
+     * Building numbers in numeric order (9 before 10), with a letter suffix after the plain number (72 before 72А).
+     * Numbers without leading digits go last, in string order.
+     */
+    static int compareBuildingNumbers(String a, String b) {
+        int aDigits = leadingDigits(a);
+        int bDigits = leadingDigits(b);
+        if (aDigits == 0 || bDigits == 0) {
+            if (aDigits == bDigits) {
+                return a.compareTo(b);
+            }
+            return aDigits == 0 ? 1 : -1;
+        }
+        int byNumber = Long.compare(Long.parseLong(a.substring(0, aDigits)), Long.parseLong(b.substring(0, bDigits)));
+        return byNumber != 0 ? byNumber : a.substring(aDigits).compareTo(b.substring(bDigits));
+    }
+
+    private static int leadingDigits(String value) {
+        int length = 0;
+        while (length < value.length() && length < 18
+               && value.charAt(length) >= '0' && value.charAt(length) <= '9') {
+            length++;
+        }
+        return length;
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("shimegch.poster.phase")
+            .description("Time spent in one phase of poster rendering")
+            .tag("phase", phase)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Generate the poster for a household's monthly record, reusing a cached render when nothing has changed
+     */
+    public byte[] generatePoster(PaymentAnalysisService.HouseholdPaymentInfo householdInfo) {
+        PosterCache.PosterKey key = new PosterCache.PosterKey(
+            householdInfo.householdId,
+            householdInfo.recordMonth,
+            householdInfo.outstandingBalance,
+            householdInfo.rankCategory,
+            TEMPLATE_VERSION,
+            memePool.getGeneration());
+
+        return posterCache.get(key, () -> generatePoster(
+            householdInfo.buildingNumber,
+            String.valueOf(householdInfo.entranceNumber),
+            String.valueOf(householdInfo.floorNumber),
+            String.valueOf(householdInfo.doorNumber),
+            householdInfo.rankCategory,
+            householdInfo.outstandingBalance));
+    }
 
     /**
      * Generate a debt collection poster PDF
@@ -46,6 +159,46 @@ public class PosterGeneratorService {
     public byte[] generatePoster(String buildingNumber, String entranceNumber,
                                 String floorNumber, String doorNumber,
                                 String rankCategory, BigDecimal debtAmount) {
+        long lookupStart = System.nanoTime();
+        MemeConfiguration memeImage = memePool.pickImage();
+        MemeConfiguration memeText = memePool.pickText();
+        memeLookupTimer.record(System.nanoTime() - lookupStart, TimeUnit.NANOSECONDS);
+
+        return generatePoster(buildingNumber, entranceNumber, floorNumber, doorNumber, rankCategory, debtAmount,
+                              memeImage, memeText);
+    }
+
+    /**
+     * Generate a debt collection poster PDF as part of a bulk run, without repeating memes within the run
+     */
+    public byte[] generatePoster(String buildingNumber, String entranceNumber,
+                                String floorNumber, String doorNumber,
+                                String rankCategory, BigDecimal debtAmount, MemePool.Draw memeDraw) {
+        long lookupStart = System.nanoTime();
+        MemeConfiguration memeImage = memeDraw.nextImage();
+        MemeConfiguration memeText = memeDraw.nextText();
+        memeLookupTimer.record(System.nanoTime() - lookupStart, TimeUnit.NANOSECONDS);
+
+        return generatePoster(buildingNumber, entranceNumber, floorNumber, doorNumber, rankCategory, debtAmount,
+                              memeImage, memeText);
+    }
+
+    /**
+     * Render a synthetic poster without memes or cache, so fonts and the PDF pipeline are loaded before the first
+     * real request. Does not touch the network.
+     */
+    public byte[] renderWarmupPoster() {
+        return generatePoster("0", "0", "0", "0", "Warmup", new BigDecimal("123456.78"), null, null);
+    }
+
+    private byte[] generatePoster(String buildingNumber, String entranceNumber,
+                                 String floorNumber, String doorNumber,
+                                 String rankCategory, BigDecimal debtAmount,
+                                 MemeConfiguration memeImage, MemeConfiguration memeText) {
+
+        long renderStart = System.nanoTime();
+        long fontNanos = 0;
+        long imageNanos = 0;
 
         try {
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -56,39 +209,21 @@ public class PosterGeneratorService {
             Document document = new Document(pdfDoc);
 
             // Create font that supports Unicode/Cyrillic/Mongolian
-            PdfFont font;
-            PdfFont boldFont;
-
-            try {
-                // Try to use system fonts that support Mongolian
-                font = PdfFontFactory.createFont("c:/windows/fonts/arial.ttf", PdfEncodings.IDENTITY_H, PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
-                boldFont = PdfFontFactory.createFont("c:/windows/fonts/arialbd.ttf", PdfEncodings.IDENTITY_H, PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED);
-            } catch (Exception e) {
-                try {
-                    // Fallback to standard fonts with UTF-8 encoding
-                    font = PdfFontFactory.createFont(StandardFonts.HELVETICA, PdfEncodings.UTF8);
-                    boldFont = PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD, PdfEncodings.UTF8);
-                } catch (Exception e2) {
-                    // Final fallback to standard fonts
-                    font = PdfFontFactory.createFont(StandardFonts.HELVETICA);
-                    boldFont = PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD);
-                }
-            }
+            long fontStart = System.nanoTime();
+            PosterFonts fonts = loadFonts();
+            PdfFont font = fonts.regular();
+            PdfFont boldFont = fonts.bold();
+            fontNanos = System.nanoTime() - fontStart;
+            fontLoadTimer.record(fontNanos, TimeUnit.NANOSECONDS);
 
             // Format debt amount
             String formattedAmount = String.format("%,.2f", debtAmount);
 
-            // Get random meme content
-            MemeConfiguration memeImage = memeConfigurationRepository.findRandomMemeImage();
-            MemeConfiguration memeText = memeConfigurationRepository.findRandomMemeText();
-
             String imageUrl = memeImage != null ? memeImage.getContent() : "";
             String funnyText = memeText != null ? memeText.getContent() : "Өрөө төлөөрэй! 😄";
 
-            // Debug logging
-            System.out.println("DEBUG: Meme image found: " + (memeImage != null ? memeImage.getContent() : "null"));
-            System.out.println("DEBUG: Meme text found: " + (memeText != null ? memeText.getContent() : "null"));
-            System.out.println("DEBUG: Final funny text: " + funnyText);
+            log.debug("Poster {}-{}-{}-{}: meme image={}, meme text={}", buildingNumber, entranceNumber,
+                      floorNumber, doorNumber, imageUrl, funnyText);
 
             // Header section with apartment info
             Paragraph header = new Paragraph()
@@ -129,15 +264,21 @@ public class PosterGeneratorService {
 
             // Meme section with image and text
             if (!funnyText.isEmpty() && !funnyText.equals("Өрөө төлөөрэй! 😄")) {
-                System.out.println("DEBUG: Adding meme section with text: " + funnyText);
-
                 // Add meme image if available
                 if (!imageUrl.isEmpty()) {
+                    long imageStart = System.nanoTime();
                     try {
-                        System.out.println("DEBUG: Adding meme image from URL: " + imageUrl);
-                        addMemeImage(document, imageUrl, font);
+                        byte[] imageBytes = fetchImage(imageUrl);
+                        imageNanos = System.nanoTime() - imageStart;
+                        imageFetchTimer.record(imageNanos, TimeUnit.NANOSECONDS);
+                        addMemeImage(document, imageBytes);
                     } catch (Exception e) {
-                        System.out.println("DEBUG: Failed to add meme image: " + e.getMessage());
+                        if (imageNanos == 0) {
+                            imageNanos = System.nanoTime() - imageStart;
+                            imageFetchTimer.record(imageNanos, TimeUnit.NANOSECONDS);
+                        }
+                        imageFetchFailures.increment();
+                        log.warn("Failed to add meme image {}: {}", imageUrl, e.getMessage());
                         // Add placeholder if image fails
                         Paragraph imagePlaceholder = new Paragraph()
                             .add(new Text("[Meme зураг татагдсангүй]").setFont(font).setFontSize(14))
@@ -159,8 +300,7 @@ public class PosterGeneratorService {
                 }
 
                 // Meme text with emoji support
-                String processedText = processEmojis(funnyText);
-                System.out.println("DEBUG: Processed meme text: " + processedText);
+                String processedText = emojiTextProcessor.process(funnyText);
 
                 Paragraph memeTextParagraph = new Paragraph()
                     .add(new Text(processedText).setFont(font).setFontSize(16))
@@ -170,7 +310,7 @@ public class PosterGeneratorService {
                     .setBackgroundColor(new DeviceRgb(248, 248, 248));
                 document.add(memeTextParagraph);
             } else {
-                System.out.println("DEBUG: No meme text to add or using default text");
+                log.debug("No meme text configured, skipping meme section");
             }
 
             // Footer
@@ -187,8 +327,13 @@ public class PosterGeneratorService {
             // Close document
             document.close();
 
+            long totalNanos = System.nanoTime() - renderStart;
+            layoutTimer.record(totalNanos - fontNanos - imageNanos, TimeUnit.NANOSECONDS);
+            renderTimer.record(totalNanos, TimeUnit.NANOSECONDS);
+
             return outputStream.toByteArray();
         } catch (Exception e) {
+            renderFailures.increment();
             throw new RuntimeException("Failed to generate poster PDF", e);
         }
     }
@@ -197,74 +342,183 @@ public class PosterGeneratorService {
 
 
 
-    private String formatCurrency(BigDecimal amount) {
-        NumberFormat formatter = NumberFormat.getNumberInstance(new Locale("mn", "MN"));
-        return formatter.format(amount);
-    }
+    /**
+     * Write notices for many households as an N-up printable PDF, with 2, 4 or 8 notices per A4 page.
+     * Notices are ordered by building, entrance, floor and door so the printed stack follows the walking route.
+     * Pages are flushed to the output stream as soon as they are full. The list must not be empty,
+     * a PDF without pages cannot be written.
+     */
+    public void writePosterSheets(List<PaymentAnalysisService.HouseholdPaymentInfo> households,
+                                  int postersPerPage, OutputStream out) {
+        if (households.isEmpty()) {
+            throw new IllegalArgumentException("No households to print");
+        }
+        SheetLayout layout = SheetLayout.of(postersPerPage);
 
-    private String processEmojis(String text) {
-        if (text == null) return "";
-
-        System.out.println("DEBUG: Processing emojis in text: " + text);
-
-        // Replace common emojis with text representations for better PDF compatibility
-        String processed = text
-            .replace("😄", " [инээмсэглэл] ")
-            .replace("😂", " [инээд] ")
-            .replace("🤣", " [инээд] ")
-            .replace("😭", " [уйлах] ")
-            .replace("😱", " [айх] ")
-            .replace("💰", " [мөнгө] ")
-            .replace("💸", " [мөнгө алдах] ")
-            .replace("🏠", " [байшин] ")
-            .replace("🔥", " [гал] ")
-            .replace("⚡", " [цахилгаан] ")
-            .replace("⏰", " [цаг] ")
-            .replace("📈", " [өсөлт] ")
-            .replace("📉", " [бууралт] ")
-            .replace("❗", "!")
-            .replace("❓", "?")
-            .replace("👍", " [сайн] ")
-            .replace("👎", " [муу] ")
-            .replace("🤔", " [бодох] ")
-            .replace("😅", " [ичих] ")
-            .replace("😏", " [муу санаа] ")
-            .replace("😌", " [тайван] ")
-            .replace("💪", " [хүчтэй] ")
-            .replace("💙", " [сэтгэл] ");
-
-        System.out.println("DEBUG: Processed text: " + processed);
-        return processed;
-    }
+        List<PaymentAnalysisService.HouseholdPaymentInfo> ordered = households.stream()
+            .sorted(WALKING_ROUTE_ORDER)
+            .toList();
+
+        long renderStart = System.nanoTime();
+        MemePool.Draw memeDraw = memePool.newDraw();
 
-    private void addMemeImage(Document document, String imageUrl, PdfFont font) throws Exception {
         try {
-            // Download image from URL
-            java.net.URL url = new java.net.URL(imageUrl);
-            java.io.InputStream inputStream = url.openStream();
-            byte[] imageBytes = inputStream.readAllBytes();
-            inputStream.close();
+            PdfWriter writer = new PdfWriter(out);
+            writer.setCloseStream(false); // The caller owns the output stream
+            PdfDocument pdfDoc = new PdfDocument(writer);
+            // Immediate flush lets the renderer write each page out as soon as the next one starts
+            Document document = new Document(pdfDoc, PageSize.A4, true);
+            document.setMargins(SHEET_MARGIN, SHEET_MARGIN, SHEET_MARGIN, SHEET_MARGIN);
 
-            // Create image data
-            ImageData imageData = ImageDataFactory.create(imageBytes);
-            Image image = new Image(imageData);
+            long fontStart = System.nanoTime();
+            PosterFonts fonts = loadFonts();
+            fontLoadTimer.record(System.nanoTime() - fontStart, TimeUnit.NANOSECONDS);
 
-            // Set image properties
-            image.setWidth(300); // Max width 300px
-            image.setHeight(200); // Max height 200px
-            image.setAutoScale(true); // Maintain aspect ratio
-            image.setHorizontalAlignment(HorizontalAlignment.CENTER);
-            image.setMarginTop(20);
-            image.setMarginBottom(10);
+            float cellHeight = (PageSize.A4.getHeight() - 2 * SHEET_MARGIN) / layout.rows() - 1;
 
-            // Add image to document
-            document.add(image);
+            for (int pageStart = 0; pageStart < ordered.size(); pageStart += postersPerPage) {
+                if (pageStart > 0) {
+                    document.add(new AreaBreak(AreaBreakType.NEXT_PAGE));
+                }
 
-            System.out.println("DEBUG: Meme image added successfully");
+                Table page = new Table(UnitValue.createPercentArray(layout.columns())).useAllAvailableWidth();
+                int pageEnd = Math.min(pageStart + postersPerPage, ordered.size());
+                for (int i = pageStart; i < pageEnd; i++) {
+                    MemeConfiguration memeText = memeDraw.nextText();
+                    page.addCell(createSheetNotice(ordered.get(i), memeText, fonts, layout, cellHeight));
+                }
+                document.add(page);
+            }
 
+            document.close();
+            renderTimer.record(System.nanoTime() - renderStart, TimeUnit.NANOSECONDS);
         } catch (Exception e) {
-            System.out.println("DEBUG: Error adding meme image: " + e.getMessage());
-            throw e;
+            renderFailures.increment();
+            throw new RuntimeException("Failed to generate poster sheets", e);
         }
     }
+
+    private Cell createSheetNotice(PaymentAnalysisService.HouseholdPaymentInfo info, MemeConfiguration memeText,
+                                   PosterFonts fonts, SheetLayout layout, float height) {
+        float scale = layout.fontScale();
+        String formattedAmount = String.format("%,.2f", info.outstandingBalance);
+
+        Cell cell = new Cell()
+            .setHeight(height)
+            .setPadding(6 * scale)
+            .setBorder(new DashedBorder(ColorConstants.GRAY, 0.5f));
+
+        cell.add(new Paragraph()
+            .add(new Text(info.buildingNumber + "-" + info.entranceNumber + "-" + info.floorNumber + "-" + info.doorNumber + " тоот")
+                .setFont(fonts.bold()).setFontSize(18 * scale))
+            .setTextAlignment(TextAlignment.CENTER)
+            .setBackgroundColor(new DeviceRgb(102, 102, 255))
+            .setFontColor(ColorConstants.WHITE)
+            .setPadding(6 * scale)
+            .setMargin(0));
+
+        cell.add(new Paragraph()
+            .add(new Text(info.rankCategory).setFont(fonts.bold()).setFontSize(14 * scale))
+            .setTextAlignment(TextAlignment.CENTER)
+            .setBackgroundColor(new DeviceRgb(255, 102, 102))
+            .setFontColor(ColorConstants.WHITE)
+            .setPadding(4 * scale)
+            .setMargin(0));
+
+        cell.add(new Paragraph()
+            .add(new Text("Шимэгчлэхээ болиод, " + formattedAmount + " төгрөгний өрөө төлнө үү")
+                .setFont(fonts.regular()).setFontSize(14 * scale))
+            .setTextAlignment(TextAlignment.CENTER)
+            .setBackgroundColor(new DeviceRgb(255, 255, 204))
+            .setPadding(8 * scale)
+            .setMarginTop(6 * scale));
+
+        cell.add(new Paragraph()
+            .add(new Text(formattedAmount).setFont(fonts.bold()).setFontSize(24 * scale))
+            .setTextAlignment(TextAlignment.CENTER)
+            .setFontColor(new DeviceRgb(255, 0, 0))
+            .setMarginTop(6 * scale));
+
+        if (memeText != null) {
+            cell.add(new Paragraph()
+                .add(new Text(emojiTextProcessor.process(memeText.getContent()))
+                    .setFont(fonts.regular()).setFontSize(12 * scale))
+                .setTextAlignment(TextAlignment.CENTER)
+                .setBackgroundColor(new DeviceRgb(248, 248, 248))
+                .setPadding(6 * scale));
+        }
+
+        return cell;
+    }
+
+    /**
+     * Grid of notices on one A4 page
+     */
+    private record SheetLayout(int columns, int rows, float fontScale) {
+        static SheetLayout of(int postersPerPage) {
+            return switch (postersPerPage) {
+                case 2 -> new SheetLayout(1, 2, 0.9f);
+                case 4 -> new SheetLayout(2, 2, 0.6f);
+                case 8 -> new SheetLayout(2, 4, 0.45f);
+                default -> throw new IllegalArgumentException("Posters per page must be 2, 4 or 8: " + postersPerPage);
+            };
+        }
+    }
+
+    private record PosterFonts(PdfFont regular, PdfFont bold) {
+    }
+
+    /**
+     * Create fonts that support Unicode/Cyrillic/Mongolian. Fonts are bound to one PDF document.
+     */
+    private PosterFonts loadFonts() throws IOException {
+        try {
+            // Try to use system fonts that support Mongolian
+            return new PosterFonts(
+                PdfFontFactory.createFont("c:/windows/fonts/arial.ttf", PdfEncodings.IDENTITY_H, PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED),
+                PdfFontFactory.createFont("c:/windows/fonts/arialbd.ttf", PdfEncodings.IDENTITY_H, PdfFontFactory.EmbeddingStrategy.PREFER_EMBEDDED));
+        } catch (Exception e) {
+            log.debug("Arial not available, falling back to Helvetica: {}", e.getMessage());
+            try {
+                // Fallback to standard fonts with UTF-8 encoding
+                return new PosterFonts(
+                    PdfFontFactory.createFont(StandardFonts.HELVETICA, PdfEncodings.UTF8),
+                    PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD, PdfEncodings.UTF8));
+            } catch (Exception e2) {
+                // Final fallback to standard fonts
+                return new PosterFonts(
+                    PdfFontFactory.createFont(StandardFonts.HELVETICA),
+                    PdfFontFactory.createFont(StandardFonts.HELVETICA_BOLD));
+            }
+        }
+    }
+
+    private String formatCurrency(BigDecimal amount) {
+        NumberFormat formatter = NumberFormat.getNumberInstance(new Locale("mn", "MN"));
+        return formatter.format(amount);
+    }
+
+    private byte[] fetchImage(String imageUrl) throws Exception {
+        java.net.URL url = new java.net.URL(imageUrl);
+        try (java.io.InputStream inputStream = url.openStream()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private void addMemeImage(Document document, byte[] imageBytes) {
+        // Create image data
+        ImageData imageData = ImageDataFactory.create(imageBytes);
+        Image image = new Image(imageData);
+
+        // Set image properties
+        image.setWidth(300); // Max width 300px
+        image.setHeight(200); // Max height 200px
+        image.setAutoScale(true); // Maintain aspect ratio
+        image.setHorizontalAlignment(HorizontalAlignment.CENTER);
+        image.setMarginTop(20);
+        image.setMarginBottom(10);
+
+        // Add image to document
+        document.add(image);
+    }
 }
@@ -0,0 +1,94 @@
+package com.example.application.service;
+
+import com.example.application.domain.RankConfiguration;
+import com.example.application.repository.RankConfigurationRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory snapshot of how ranks are presented (color, severity order, label), so grid cells
+ * can be rendered without touching the database. Refreshed whenever an admin changes the ranks.
+ */
+@Service
+public class RankCatalog {
+
+    public static final String DEFAULT_COLOR = "#666666";
+
+    private final RankConfigurationRepository rankConfigurationRepository;
+
+    private volatile Map<String, RankPresentation> snapshot;
+    private volatile List<RankConfiguration> activeRanks = List.of();
+
+    public RankCatalog(RankConfigurationRepository rankConfigurationRepository) {
+        this.rankConfigurationRepository = rankConfigurationRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Reload ranks from the database. Call after any admin change to rank configurations.
+     */
+    @Transactional
+    public synchronized void refresh() {
+        // Inactive ranks are never assigned, so they fall back to gray like any unknown rank
+        List<RankConfiguration> ranks = rankConfigurationRepository.findActiveRanksOrderByThresholdDesc().stream()
+            .sorted(Comparator.comparing(RankConfiguration::getThresholdAmount,
+                                         Comparator.nullsLast(Comparator.reverseOrder())))
+            .toList();
+
+        Map<String, RankPresentation> loaded = new HashMap<>();
+        for (int i = 0; i < ranks.size(); i++) {
+            RankConfiguration rank = ranks.get(i);
+            String color = rank.getColorCode() != null && !rank.getColorCode().isEmpty()
+                ? rank.getColorCode() : DEFAULT_COLOR;
+            loaded.put(rank.getRankName(), new RankPresentation(rank.getRankName(), color, i));
+        }
+        // A rank without a threshold can never be assigned
+        activeRanks = ranks.stream().filter(rank -> rank.getThresholdAmount() != null).toList();
+        snapshot = Map.copyOf(loaded);
+    }
+
+    /**
+     * Active ranks, highest threshold first, in the form {@link PaymentAnalysisService#determineRankCategory} expects.
+     * The entities are detached; treat them as read-only.
+     */
+    public List<RankConfiguration> activeRanks() {
+        if (snapshot == null) {
+            refresh();
+        }
+        return activeRanks;
+    }
+
+    /**
+     * Presentation of a rank by name; unknown ranks are shown in gray after all configured ranks
+     */
+    public RankPresentation presentation(String rankName) {
+        Map<String, RankPresentation> current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        RankPresentation presentation = rankName != null ? current.get(rankName) : null;
+        return presentation != null ? presentation : new RankPresentation(rankName, DEFAULT_COLOR, current.size());
+    }
+
+    public String colorOf(String rankName) {
+        return presentation(rankName).color();
+    }
+
+    /**
+     * @param ordinal position by threshold, 0 being the most severe rank
+     */
+    public record RankPresentation(String label, String color, int ordinal) {
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.application.service;
+
+import com.example.application.domain.Apartment;
+import com.example.application.domain.Building;
+import com.example.application.repository.ApartmentRepository;
+import com.example.application.repository.BuildingRepository;
+import com.example.application.repository.EntranceRepository;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Opt-in warmup that loads read models and exercises the poster and import paths once before the
+ * application reports itself ready. Runs synchronously as the last ApplicationReadyEvent listener;
+ * Spring Boot only switches readiness to ACCEPTING_TRAFFIC after all listeners have returned,
+ * so the readiness probe stays down until warmup has finished.
+ */
+@Component
+@ConditionalOnProperty(name = "shimegch.warmup.enabled", havingValue = "true")
+public class StartupWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private final AvailableMonths availableMonths;
+    private final PaymentReadModel paymentReadModel;
+    private final RankCatalog rankCatalog;
+    private final PosterGeneratorService posterGeneratorService;
+    private final ExcelUploadService excelUploadService;
+    private final ApartmentRepository apartmentRepository;
+    private final BuildingRepository buildingRepository;
+    private final EntranceRepository entranceRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public StartupWarmup(AvailableMonths availableMonths,
+                         PaymentReadModel paymentReadModel,
+                         RankCatalog rankCatalog,
+                         PosterGeneratorService posterGeneratorService,
+                         ExcelUploadService excelUploadService,
+                         ApartmentRepository apartmentRepository,
+                         BuildingRepository buildingRepository,
+                         EntranceRepository entranceRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.availableMonths = availableMonths;
+        this.paymentReadModel = paymentReadModel;
+        this.rankCatalog = rankCatalog;
+        this.posterGeneratorService = posterGeneratorService;
+        this.excelUploadService = excelUploadService;
+        this.apartmentRepository = apartmentRepository;
+        this.buildingRepository = buildingRepository;
+        this.entranceRepository = entranceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady() {
+        long start = System.nanoTime();
+        step("topology cache", this::warmTopology);
+        step("read models", this::warmReadModels);
+        step("poster render", posterGeneratorService::renderWarmupPoster);
+        step("synthetic import", this::runSyntheticImport);
+        log.info("Warmup finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Fills the second-level and query caches with buildings and their entrances
+     */
+    private void warmTopology() {
+        for (Building building : buildingRepository.findAll()) {
+            entranceRepository.findByBuildingOrderByEntranceNumber(building);
+        }
+    }
+
+    private void warmReadModels() {
+        availableMonths.refresh();
+        rankCatalog.presentation(null);
+        paymentReadModel.latest();
+    }
+
+    /**
+     * Imports one row for an existing apartment and rolls it back, so nothing is stored
+     * and no after-commit listeners fire
+     */
+    private void runSyntheticImport() {
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            List<Apartment> apartments = apartmentRepository.findAll(PageRequest.of(0, 1)).getContent();
+            if (apartments.isEmpty()) {
+                log.debug("No apartments yet, skipping synthetic import");
+                return;
+            }
+            byte[] workbook = syntheticWorkbook(apartments.get(0));
+            excelUploadService.processExcelFile(new ByteArrayInputStream(workbook),
+                availableMonths.latestOrCurrent(), "warmup.xlsx", (long) workbook.length, "warmup");
+        });
+    }
+
+    private static byte[] syntheticWorkbook(Apartment apartment) {
+        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Building");
+            header.createCell(1).setCellValue("Entrance");
+            header.createCell(2).setCellValue("Door");
+            header.createCell(3).setCellValue("Household");
+            header.createCell(4).setCellValue("Balance");
+
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue(apartment.getEntrance().getBuilding().getBuildingNumber());
+            row.createCell(1).setCellValue(apartment.getEntrance().getEntranceNumber());
+            row.createCell(2).setCellValue(apartment.getDoorNumber());
+            row.createCell(3).setCellValue("Warmup");
+            row.createCell(4).setCellValue(0);
+
+            workbook.write(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not build warmup workbook", e);
+        }
+    }
+
+    private static void step(String name, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+            log.info("Warmup {} took {} ms", name, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Warmup is best effort and must never keep the application from becoming ready
+            log.warn("Warmup {} failed: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.application.service;
+
+import com.example.application.domain.RankConfiguration;
+import com.example.application.repository.PaymentRecordRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outstanding balance trends per month for a household, an entrance or a building.
+ * Totals are aggregated in the database and long series are downsampled with
+ * Largest-Triangle-Three-Buckets, so the chart payload is bounded for any time span.
+ */
+@Service
+public class TrendSeriesService {
+
+    public static final int DEFAULT_MAX_POINTS = 24;
+
+    private final PaymentRecordRepository paymentRecordRepository;
+    private final RankCatalog rankCatalog;
+
+    public TrendSeriesService(PaymentRecordRepository paymentRecordRepository,
+                              RankCatalog rankCatalog) {
+        this.paymentRecordRepository = paymentRecordRepository;
+        this.rankCatalog = rankCatalog;
+    }
+
+    /**
+     * Balance of one household per month, with the rank each balance falls into
+     */
+    @Transactional(readOnly = true)
+    public TrendSeries householdTrend(Long householdId, int maxPoints) {
+        return series(paymentRecordRepository.findMonthlyTotalsByHousehold(householdId), rankCatalog.activeRanks(), maxPoints);
+    }
+
+    /**
+     * Total outstanding balance of an entrance per month
+     */
+    @Transactional(readOnly = true)
+    public TrendSeries entranceTrend(String buildingNumber, Integer entranceNumber, int maxPoints) {
+        return series(paymentRecordRepository.findMonthlyTotalsByEntrance(buildingNumber, entranceNumber), null, maxPoints);
+    }
+
+    /**
+     * Total outstanding balance of a building per month
+     */
+    @Transactional(readOnly = true)
+    public TrendSeries buildingTrend(String buildingNumber, int maxPoints) {
+        return series(paymentRecordRepository.findMonthlyTotalsByBuilding(buildingNumber), null, maxPoints);
+    }
+
+    private TrendSeries series(List<Object[]> rows, List<RankConfiguration> ranks, int maxPoints) {
+        List<TrendPoint> points = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            BigDecimal balance = (BigDecimal) row[1];
+            points.add(new TrendPoint((LocalDate) row[0], balance, ((Number) row[2]).intValue(),
+                ranks != null ? PaymentAnalysisService.determineRankCategory(balance, ranks) : null));
+        }
+        return new TrendSeries(downsample(points, maxPoints), points.size());
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets: keeps the first and last point and, from each bucket in between,
+     * the point forming the largest triangle with its neighbours, which preserves peaks and dips.
+     */
+    static List<TrendPoint> downsample(List<TrendPoint> points, int threshold) {
+        if (threshold < 3 || points.size() <= threshold) {
+            return List.copyOf(points);
+        }
+
+        List<TrendPoint> sampled = new ArrayList<>(threshold);
+        double bucketSize = (double) (points.size() - 2) / (threshold - 2);
+        int selected = 0;
+        sampled.add(points.get(0));
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // Average of the next bucket is the third corner of the triangle
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, points.size());
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x(points.get(i));
+                averageY += y(points.get(i));
+            }
+            int nextCount = Math.max(nextEnd - nextStart, 1);
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            TrendPoint anchor = points.get(selected);
+            double largestArea = -1;
+            int largestIndex = start;
+            for (int i = start; i < end; i++) {
+                TrendPoint candidate = points.get(i);
+                double area = Math.abs((x(anchor) - averageX) * (y(candidate) - y(anchor))
+                    - (x(anchor) - x(candidate)) * (averageY - y(anchor)));
+                if (area > largestArea) {
+                    largestArea = area;
+                    largestIndex = i;
+                }
+            }
+            sampled.add(points.get(largestIndex));
+            selected = largestIndex;
+        }
+
+        sampled.add(points.get(points.size() - 1));
+        return List.copyOf(sampled);
+    }
+
+    private static double x(TrendPoint point) {
+        return point.month().getYear() * 12 + point.month().getMonthValue();
+    }
+
+    private static double y(TrendPoint point) {
+        return point.balance().doubleValue();
+    }
+
+    /**
+     * @param households    number of records summed into the balance
+     * @param rankCategory  rank of the balance for household trends, {@code null} for aggregates
+     */
+    public record TrendPoint(LocalDate month, BigDecimal balance, int households, String rankCategory) {
+    }
+
+    /**
+     * @param totalPoints number of months before downsampling
+     */
+    public record TrendSeries(List<TrendPoint> points, int totalPoints) {
+
+        public boolean isDownsampled() {
+            return points.size() < totalPoints;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.application.service;
+
+import com.example.application.repository.UploadHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Drops the stored Excel files of old uploads while keeping their history rows for the audit trail.
+ * Works in small batches, each in its own short transaction, so dead rows can be vacuumed while it runs.
+ */
+@Service
+public class UploadRetentionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadRetentionJob.class);
+
+    private final UploadHistoryRepository uploadHistoryRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration fileRetention;
+    private final int batchSize;
+    private final boolean largeObjects;
+    private final Counter reclaimedBytes;
+
+    public UploadRetentionJob(UploadHistoryRepository uploadHistoryRepository,
+                              NamedParameterJdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              DataSource dataSource,
+                              MeterRegistry meterRegistry,
+                              @Value("${shimegch.retention.upload-files:P90D}") Duration fileRetention,
+                              @Value("${shimegch.retention.batch-size:100}") int batchSize) {
+        this.uploadHistoryRepository = uploadHistoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fileRetention = fileRetention;
+        this.batchSize = batchSize;
+        this.largeObjects = isPostgreSql(dataSource);
+        this.reclaimedBytes = Counter.builder("shimegch.retention.reclaimed")
+            .baseUnit("bytes")
+            .description("Size of stored upload files dropped by the retention job")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${shimegch.retention.cron:0 30 3 * * *}")
+    public void run() {
+        dropExpiredFiles();
+    }
+
+    /**
+     * Drop stored files of uploads older than the retention period
+     *
+     * @return the number of bytes reclaimed, by the recorded file sizes
+     */
+    public long dropExpiredFiles() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(fileRetention);
+        long start = System.nanoTime();
+        long bytes = 0;
+        int files = 0;
+
+        while (true) {
+            long[] batch = transactionTemplate.execute(status -> dropBatch(cutoff));
+            if (batch == null || batch[0] == 0) {
+                break;
+            }
+            files += (int) batch[0];
+            bytes += batch[1];
+            if (batch[0] < batchSize) {
+                break;
+            }
+        }
+
+        reclaimedBytes.increment(bytes);
+        if (files > 0) {
+            log.info("Upload retention dropped {} stored files older than {}, reclaimed {} bytes in {} ms",
+                     files, cutoff.toLocalDate(), bytes, (System.nanoTime() - start) / 1_000_000);
+        }
+        return bytes;
+    }
+
+    /**
+     * @return the number of files dropped and their total recorded size
+     */
+    private long[] dropBatch(LocalDateTime cutoff) {
+        List<Object[]> rows = uploadHistoryRepository.findStoredFilesBefore(cutoff, Limit.of(batchSize));
+        if (rows.isEmpty()) {
+            return new long[] {0, 0};
+        }
+
+        List<Long> ids = new ArrayList<>(rows.size());
+        long bytes = 0;
+        for (Object[] row : rows) {
+            ids.add((Long) row[0]);
+            bytes += row[1] != null ? (Long) row[1] : 0;
+        }
+
+        if (largeObjects) {
+            // PostgreSQL keeps the file as a large object; nulling the column alone would orphan it
+            jdbcTemplate.query("SELECT lo_unlink(file_content) FROM upload_history "
+                + "WHERE id IN (:ids) AND file_content IS NOT NULL", Map.of("ids", ids), rs -> { });
+        }
+        uploadHistoryRepository.clearFileContent(ids);
+        return new long[] {ids.size(), bytes};
+    }
+
+    private static boolean isPostgreSql(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgresql");
+        } catch (SQLException e) {
+            log.warn("Could not determine database type, assuming files are stored inline", e);
+            return false;
+        }
+    }
+}
@@ -6,6 +6,12 @@ import com.example.application.entity.MemeConfiguration;
 import com.example.application.repository.RankConfigurationRepository;
 import com.example.application.repository.MemeConfigurationRepository;
 import com.example.application.service.ConfigurationService;
+import com.example.application.service.EmojiTextProcessor;
+import com.example.application.service.MemePool;
+import com.example.application.service.PaymentPartitions;
+import com.example.application.service.PaymentReadModel;
+import com.example.application.service.PosterCache;
+import com.example.application.service.RankCatalog;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.checkbox.Checkbox;
@@ -15,9 +21,11 @@ import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.Main;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.NotificationVariant;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.BigDecimalField;
+import com.vaadin.flow.component.textfield.IntegerField;
 import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.component.html.*;
@@ -38,17 +46,38 @@ import java.util.Locale;
 @PageTitle("Админ тохиргоо")
 public class AdminConfigView extends Main {
 
+    private static final String WEIGHT_SEPARATOR = "|";
+    private static final String WEIGHT_HELP = "Мөрийн төгсгөлд |3 гэж бичвэл тухайн мөр 3 дахин олон гарна";
+
     private final RankConfigurationRepository rankConfigurationRepository;
     private final MemeConfigurationRepository memeConfigurationRepository;
     private final ConfigurationService configurationService;
+    private final MemePool memePool;
+    private final PosterCache posterCache;
+    private final EmojiTextProcessor emojiTextProcessor;
+    private final PaymentReadModel paymentReadModel;
+    private final RankCatalog rankCatalog;
+    private final PaymentPartitions paymentPartitions;
     private final Grid<RankConfiguration> grid;
 
     public AdminConfigView(RankConfigurationRepository rankConfigurationRepository,
                           MemeConfigurationRepository memeConfigurationRepository,
-                          ConfigurationService configurationService) {
+                          ConfigurationService configurationService,
+                          MemePool memePool,
+                          PosterCache posterCache,
+                          EmojiTextProcessor emojiTextProcessor,
+                          PaymentReadModel paymentReadModel,
+                          RankCatalog rankCatalog,
+                          PaymentPartitions paymentPartitions) {
         this.rankConfigurationRepository = rankConfigurationRepository;
         this.memeConfigurationRepository = memeConfigurationRepository;
         this.configurationService = configurationService;
+        this.memePool = memePool;
+        this.posterCache = posterCache;
+        this.emojiTextProcessor = emojiTextProcessor;
+        this.paymentReadModel = paymentReadModel;
+        this.rankCatalog = rankCatalog;
+        this.paymentPartitions = paymentPartitions;
 
         setSizeFull();
         addClassNames(LumoUtility.BoxSizing.BORDER, LumoUtility.Display.FLEX, 
@@ -76,6 +105,10 @@ public class AdminConfigView extends Main {
 
         // Add meme configuration section
         createMemeConfigSection();
+        createEmojiTableSection();
+        if (paymentPartitions.isPartitioned()) {
+            createArchiveSection();
+        }
     }
 
     private void setupGrid() {
@@ -225,6 +258,7 @@ public class AdminConfigView extends Main {
             rank.setIsActive(isActive != null ? isActive : true);
 
             rankConfigurationRepository.save(rank);
+            onRanksChanged();
 
             Notification.show(existingRank == null ? "Rank created successfully" : "Rank updated successfully", 
                             3000, Notification.Position.BOTTOM_END)
@@ -238,10 +272,20 @@ public class AdminConfigView extends Main {
         }
     }
 
+    /**
+     * Rank changes alter every household's category and color, so cached posters and month snapshots are stale
+     */
+    private void onRanksChanged() {
+        rankCatalog.refresh();
+        posterCache.invalidateAll();
+        paymentReadModel.invalidateAll();
+    }
+
     private void toggleRankStatus(RankConfiguration rank) {
         try {
             rank.setIsActive(!rank.getIsActive());
             rankConfigurationRepository.save(rank);
+            onRanksChanged();
             refreshGrid();
 
             Notification.show("Rank status updated", 3000, Notification.Position.BOTTOM_END)
@@ -262,6 +306,7 @@ public class AdminConfigView extends Main {
         Button confirmButton = new Button("Delete", event -> {
             try {
                 rankConfigurationRepository.delete(rank);
+                onRanksChanged();
                 refreshGrid();
                 confirmDialog.close();
 
@@ -335,12 +380,13 @@ public class AdminConfigView extends Main {
         H4 imageTitle = new H4("Зургууд (URL)");
         TextArea imageTextArea = new TextArea();
         imageTextArea.setPlaceholder("Meme зургийн URL-ууд (мөр бүрт нэг URL)");
+        imageTextArea.setHelperText(WEIGHT_HELP);
         imageTextArea.setWidthFull();
         imageTextArea.setHeight("150px");
 
         // Load existing image URLs
         List<MemeConfiguration> images = memeConfigurationRepository.findByMemeTypeAndIsActiveTrueOrderByDisplayOrder(MemeConfiguration.MemeType.IMAGE_URL);
-        imageTextArea.setValue(images.stream().map(MemeConfiguration::getContent).collect(java.util.stream.Collectors.joining("\n")));
+        imageTextArea.setValue(formatMemeLines(images));
 
         Button saveImagesButton = new Button("Зургууд хадгалах", event -> {
             saveMemeConfigurations(imageTextArea.getValue(), MemeConfiguration.MemeType.IMAGE_URL);
@@ -352,12 +398,13 @@ public class AdminConfigView extends Main {
         H4 textTitle = new H4("Хошин текстүүд");
         TextArea textTextArea = new TextArea();
         textTextArea.setPlaceholder("Хошин текстүүд (мөр бүрт нэг текст)");
+        textTextArea.setHelperText(WEIGHT_HELP);
         textTextArea.setWidthFull();
         textTextArea.setHeight("150px");
 
         // Load existing texts
         List<MemeConfiguration> texts = memeConfigurationRepository.findByMemeTypeAndIsActiveTrueOrderByDisplayOrder(MemeConfiguration.MemeType.TEXT);
-        textTextArea.setValue(texts.stream().map(MemeConfiguration::getContent).collect(java.util.stream.Collectors.joining("\n")));
+        textTextArea.setValue(formatMemeLines(texts));
 
         Button saveTextsButton = new Button("Текстүүд хадгалах", event -> {
             saveMemeConfigurations(textTextArea.getValue(), MemeConfiguration.MemeType.TEXT);
@@ -372,25 +419,149 @@ public class AdminConfigView extends Main {
         exampleDiv.add(new Paragraph("Зургийн URL: https://example.com/meme1.jpg"));
         exampleDiv.add(new Paragraph("Хошин текст: Өрөө төлөхгүй бол интернэт тасална! 😄"));
         exampleDiv.add(new Paragraph("Хошин текст: Шимэгчлэхээ болиод, өрөө төлөөрэй! 🤣"));
+        exampleDiv.add(new Paragraph("Гурав дахин олон гарах текст: Өрөө төлөөрэй! 🙏|3"));
 
         add(memeTitle, imageTitle, imageTextArea, saveImagesButton, textTitle, textTextArea, saveTextsButton, exampleDiv);
     }
 
+    private void createEmojiTableSection() {
+        H4 emojiTitle = new H4("Emoji хүснэгт");
+
+        TextArea emojiTextArea = new TextArea();
+        emojiTextArea.setPlaceholder("emoji=текст (мөр бүрт нэг)");
+        emojiTextArea.setHelperText("Постер дээр emoji харагдахгүй тул заасан текстээр солигдоно. Жишээ: 😄=[инээмсэглэл]");
+        emojiTextArea.setWidthFull();
+        emojiTextArea.setHeight("200px");
+        emojiTextArea.setValue(configurationService.getEmojiTable());
+
+        Button saveEmojiButton = new Button("Emoji хүснэгт хадгалах", event -> {
+            try {
+                configurationService.setEmojiTable(emojiTextArea.getValue());
+                emojiTextProcessor.refresh();
+                posterCache.invalidateAll();
+                Notification.show("Emoji хүснэгт амжилттай хадгалагдлаа!", 3000, Notification.Position.BOTTOM_END)
+                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+            } catch (Exception e) {
+                Notification.show("Алдаа гарлаа: " + e.getMessage(), 5000, Notification.Position.MIDDLE)
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
+            }
+        });
+        saveEmojiButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+
+        add(emojiTitle, emojiTextArea, saveEmojiButton);
+    }
+
+    private void createArchiveSection() {
+        H3 archiveTitle = new H3("🗄️ Төлбөрийн түүх архивлах");
+        archiveTitle.addClassNames(LumoUtility.Margin.Top.LARGE);
+
+        Paragraph description = new Paragraph("Сонгосон оны бүх сарын төлбөрийн бичлэг жагсаалт, тайлангаас хасагдаж "
+            + "payment_record_archive_y<он> хүснэгтэд хадгалагдана.");
+        description.addClassNames(LumoUtility.TextColor.SECONDARY);
+
+        IntegerField yearField = new IntegerField("Он");
+        yearField.setMax(java.time.LocalDate.now().getYear() - 1);
+        yearField.setStepButtonsVisible(true);
+
+        Button archiveButton = new Button("Архивлах", event -> {
+            Integer year = yearField.getValue();
+            if (year == null) {
+                Notification.show("Он оруулна уу", 3000, Notification.Position.MIDDLE)
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
+                return;
+            }
+            confirmArchive(year);
+        });
+        archiveButton.addThemeVariants(ButtonVariant.LUMO_ERROR);
+
+        HorizontalLayout archiveLayout = new HorizontalLayout(yearField, archiveButton);
+        archiveLayout.setAlignItems(FlexComponent.Alignment.BASELINE);
+
+        add(archiveTitle, description, archiveLayout);
+    }
+
+    private void confirmArchive(int year) {
+        Dialog confirmDialog = new Dialog();
+        confirmDialog.setHeaderTitle("Архивлах уу?");
+        confirmDialog.add(year + " оны төлбөрийн бичлэгүүд програмаас харагдахгүй болно.");
+
+        Button confirmButton = new Button("Архивлах", event -> {
+            try {
+                paymentPartitions.detachYear(year);
+                confirmDialog.close();
+                Notification.show(year + " оны төлбөрийн түүх архивлагдлаа", 3000, Notification.Position.BOTTOM_END)
+                    .addThemeVariants(NotificationVariant.LUMO_SUCCESS);
+            } catch (Exception e) {
+                Notification.show("Алдаа гарлаа: " + e.getMessage(), 5000, Notification.Position.MIDDLE)
+                    .addThemeVariants(NotificationVariant.LUMO_ERROR);
+            }
+        });
+        confirmButton.addThemeVariants(ButtonVariant.LUMO_PRIMARY, ButtonVariant.LUMO_ERROR);
+
+        Button cancelButton = new Button("Цуцлах", event -> confirmDialog.close());
+
+        HorizontalLayout buttonLayout = new HorizontalLayout(confirmButton, cancelButton);
+        buttonLayout.setJustifyContentMode(HorizontalLayout.JustifyContentMode.END);
+
+        confirmDialog.add(buttonLayout);
+        confirmDialog.open();
+    }
+
+    /**
+     * One line per meme, with {@code |weight} appended when the weight is not the default 1
+     */
+    private static String formatMemeLines(List<MemeConfiguration> memes) {
+        return memes.stream()
+            .map(meme -> meme.getWeight() != null && meme.getWeight() != 1
+                ? meme.getContent() + WEIGHT_SEPARATOR + meme.getWeight() : meme.getContent())
+            .collect(java.util.stream.Collectors.joining("\n"));
+    }
+
+    /**
+     * Save the edited lines. Existing memes are matched by content and updated in place, keeping their weight
+     * unless the line sets one; memes no longer listed are deactivated and new lines are added.
+     */
     private void saveMemeConfigurations(String content, MemeConfiguration.MemeType memeType) {
-        // Delete existing configurations of this type
-        List<MemeConfiguration> existing = memeConfigurationRepository.findByMemeTypeAndIsActiveTrueOrderByDisplayOrder(memeType);
-        existing.forEach(config -> config.setIsActive(false));
-        memeConfigurationRepository.saveAll(existing);
+        java.util.Map<String, MemeConfiguration> existing = new java.util.HashMap<>();
+        for (MemeConfiguration config : memeConfigurationRepository.findByMemeTypeAndIsActiveTrueOrderByDisplayOrder(memeType)) {
+            existing.putIfAbsent(config.getContent(), config);
+        }
 
-        // Save new configurations
+        List<MemeConfiguration> changed = new java.util.ArrayList<>();
         String[] lines = content.split("\n");
         for (int i = 0; i < lines.length; i++) {
             String line = lines[i].trim();
-            if (!line.isEmpty()) {
-                MemeConfiguration config = new MemeConfiguration(memeType, line);
-                config.setDisplayOrder(i + 1);
-                memeConfigurationRepository.save(config);
+            if (line.isEmpty()) {
+                continue;
             }
+
+            String text = line;
+            Integer weight = null;
+            int separator = line.lastIndexOf(WEIGHT_SEPARATOR);
+            if (separator > 0) {
+                try {
+                    weight = Math.max(1, Integer.parseInt(line.substring(separator + 1).trim()));
+                    text = line.substring(0, separator).trim();
+                } catch (NumberFormatException e) {
+                    // Not a weight, the separator is part of the content
+                }
+            }
+
+            MemeConfiguration config = existing.remove(text);
+            if (config == null) {
+                config = new MemeConfiguration(memeType, text);
+            }
+            if (weight != null) {
+                config.setWeight(weight);
+            }
+            config.setDisplayOrder(i + 1);
+            changed.add(config);
         }
+
+        existing.values().forEach(config -> config.setIsActive(false));
+        changed.addAll(existing.values());
+        memeConfigurationRepository.saveAll(changed);
+
+        memePool.refresh();
     }
 }
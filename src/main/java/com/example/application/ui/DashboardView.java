@@ -1,19 +1,31 @@
 package com.example.application.ui;
 
+import com.example.application.base.ui.component.TrendChart;
 import com.example.application.base.ui.component.ViewToolbar;
+import com.example.application.service.MonthUpdateBroadcaster;
 import com.example.application.service.PaymentAnalysisService;
+import com.example.application.service.PaymentReadModel;
+import com.example.application.service.TrendSeriesService;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.*;
+import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.select.Select;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.shared.Registration;
 import com.vaadin.flow.theme.lumo.LumoUtility;
 
 import java.math.BigDecimal;
 import java.text.NumberFormat;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -25,13 +37,22 @@ import java.util.Map;
 @PageTitle("Хяналтын самбар")
 public class DashboardView extends Main {
 
-    private final PaymentAnalysisService paymentAnalysisService;
+    private static final String TREND_COLOR = "#1676F3";
+
+    private final PaymentReadModel paymentReadModel;
+    private final MonthUpdateBroadcaster monthUpdateBroadcaster;
+    private final TrendSeriesService trendSeriesService;
     private final VerticalLayout statisticsLayout;
     private final VerticalLayout rankingsLayout;
     private final Grid<PaymentAnalysisService.HouseholdPaymentInfo> householdGrid;
+    private String currentViewType = "Зэрэглэлээр";
+    private Registration monthUpdateRegistration;
 
-    public DashboardView(PaymentAnalysisService paymentAnalysisService) {
-        this.paymentAnalysisService = paymentAnalysisService;
+    public DashboardView(PaymentReadModel paymentReadModel, MonthUpdateBroadcaster monthUpdateBroadcaster,
+                         TrendSeriesService trendSeriesService) {
+        this.paymentReadModel = paymentReadModel;
+        this.monthUpdateBroadcaster = monthUpdateBroadcaster;
+        this.trendSeriesService = trendSeriesService;
 
         setSizeFull();
         addClassNames(LumoUtility.BoxSizing.BORDER, LumoUtility.Display.FLEX, 
@@ -150,7 +171,38 @@ public class DashboardView extends Main {
         householdGrid.setHeight("400px");
     }
 
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        UI ui = attachEvent.getUI();
+        monthUpdateRegistration = monthUpdateBroadcaster.register(update -> ui.access(() -> applyMonthUpdate(update)));
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        super.onDetach(detachEvent);
+        if (monthUpdateRegistration != null) {
+            monthUpdateRegistration.remove();
+            monthUpdateRegistration = null;
+        }
+    }
+
+    /**
+     * Redraw from the already rebuilt snapshot when an upload changed the month shown here
+     */
+    private void applyMonthUpdate(MonthUpdateBroadcaster.MonthUpdate update) {
+        if (update.isEmpty() || !paymentReadModel.latestMonth().map(update.month()::equals).orElse(false)) {
+            return;
+        }
+        loadData();
+        if (!"Зэрэглэлээр".equals(currentViewType)) {
+            updateView(currentViewType);
+        }
+        Notification.show(update.changes().size() + " айлын мэдээлэл шинэчлэгдлээ", 3000, Notification.Position.BOTTOM_END);
+    }
+
     private void updateView(String viewType) {
+        currentViewType = viewType;
         switch (viewType) {
             case "Бүх айлууд" -> loadAllHouseholds();
             case "Зэрэглэлээр" -> loadHouseholdsByRank();
@@ -166,7 +218,7 @@ public class DashboardView extends Main {
     private void loadBuildingStatistics() {
         statisticsLayout.removeAll();
 
-        List<PaymentAnalysisService.BuildingStatistics> stats = paymentAnalysisService.getBuildingStatistics();
+        List<PaymentAnalysisService.BuildingStatistics> stats = paymentReadModel.latest().getBuildingStatistics();
 
         HorizontalLayout headerLayout = new HorizontalLayout();
         headerLayout.addClassNames(LumoUtility.FontWeight.BOLD, LumoUtility.Padding.SMALL);
@@ -189,15 +241,74 @@ public class DashboardView extends Main {
                 createStatCell(formatCurrency(stat.getTotalOutstanding()), "150px"),
                 createStatCell(formatCurrency(stat.getAverageDebt()), "120px")
             );
+            rowLayout.getStyle().set("cursor", "pointer");
+            rowLayout.addClickListener(event -> openBuildingTrendDialog(stat.getBuildingNumber()));
             statisticsLayout.add(rowLayout);
         }
     }
 
+    /**
+     * Outstanding balance trend of a building, or of one of its entrances
+     */
+    private void openBuildingTrendDialog(String buildingNumber) {
+        Dialog dialog = new Dialog();
+        dialog.setHeaderTitle("📈 " + buildingNumber + " байрны өрийн явц");
+        dialog.setWidth("min(95vw, 700px)");
+
+        Select<Integer> entranceSelect = new Select<>();
+        entranceSelect.setLabel("Орц");
+        entranceSelect.setItems(paymentReadModel.latest().getEntranceStatistics(buildingNumber).stream()
+            .map(PaymentAnalysisService.EntranceStatistics::getEntranceNumber)
+            .sorted()
+            .toList());
+        entranceSelect.setItemLabelGenerator(entrance -> entrance + " орц");
+        entranceSelect.setEmptySelectionAllowed(true);
+        entranceSelect.setEmptySelectionCaption("Бүх орц");
+
+        Div chartHolder = new Div();
+        chartHolder.setWidthFull();
+        showTrend(chartHolder, trendSeriesService.buildingTrend(buildingNumber, TrendSeriesService.DEFAULT_MAX_POINTS));
+        entranceSelect.addValueChangeListener(event -> showTrend(chartHolder, event.getValue() == null
+            ? trendSeriesService.buildingTrend(buildingNumber, TrendSeriesService.DEFAULT_MAX_POINTS)
+            : trendSeriesService.entranceTrend(buildingNumber, event.getValue(), TrendSeriesService.DEFAULT_MAX_POINTS)));
+
+        dialog.add(new VerticalLayout(entranceSelect, chartHolder));
+        dialog.getFooter().add(new Button("Хаах", event -> dialog.close()));
+        dialog.open();
+    }
+
+    private void showTrend(Div chartHolder, TrendSeriesService.TrendSeries trend) {
+        chartHolder.removeAll();
+        if (trend.points().isEmpty()) {
+            Paragraph noData = new Paragraph("📊 График үүсгэх мэдээлэл олдсонгүй");
+            noData.addClassNames(LumoUtility.TextColor.SECONDARY);
+            chartHolder.add(noData);
+            return;
+        }
+
+        TrendChart chart = new TrendChart();
+        chart.setWidthFull();
+        chart.setPoints(trend.points().stream()
+            .map(point -> new TrendChart.Point(
+                point.month().format(DateTimeFormatter.ofPattern("yyyy/M")),
+                point.balance().doubleValue(),
+                formatCurrency(point.balance()) + " (" + point.households() + " айл)",
+                TREND_COLOR))
+            .toList());
+        chartHolder.add(chart);
+
+        if (trend.isDownsampled()) {
+            Paragraph note = new Paragraph(trend.totalPoints() + " сараас " + trend.points().size() + " цэгээр харуулав");
+            note.addClassNames(LumoUtility.TextColor.SECONDARY, LumoUtility.FontSize.XSMALL);
+            chartHolder.add(note);
+        }
+    }
+
     private void loadHouseholdsByRank() {
         rankingsLayout.removeAll();
         
-        Map<String, List<PaymentAnalysisService.HouseholdPaymentInfo>> categorized = 
-            paymentAnalysisService.categorizeHouseholdsByRank();
+        PaymentReadModel.MonthSnapshot snapshot = paymentReadModel.latest();
+        Map<String, List<PaymentAnalysisService.HouseholdPaymentInfo>> categorized = snapshot.getHouseholdsByRank();
 
         for (Map.Entry<String, List<PaymentAnalysisService.HouseholdPaymentInfo>> entry : categorized.entrySet()) {
             if (!entry.getValue().isEmpty()) {
@@ -233,28 +344,16 @@ public class DashboardView extends Main {
         }
 
         // Update grid with all households
-        List<PaymentAnalysisService.HouseholdPaymentInfo> allHouseholds = categorized.values().stream()
-            .flatMap(List::stream)
-            .sorted((a, b) -> b.outstandingBalance.compareTo(a.outstandingBalance))
-            .toList();
-        householdGrid.setItems(allHouseholds);
+        householdGrid.setItems(snapshot.getHouseholds());
     }
 
     private void loadAllHouseholds() {
-        Map<String, List<PaymentAnalysisService.HouseholdPaymentInfo>> categorized = 
-            paymentAnalysisService.categorizeHouseholdsByRank();
-        
-        List<PaymentAnalysisService.HouseholdPaymentInfo> allHouseholds = categorized.values().stream()
-            .flatMap(List::stream)
-            .sorted((a, b) -> b.outstandingBalance.compareTo(a.outstandingBalance))
-            .toList();
-        
-        householdGrid.setItems(allHouseholds);
+        householdGrid.setItems(paymentReadModel.latest().getHouseholds());
     }
 
     private void loadHouseholdsAboveThreshold(BigDecimal threshold) {
         List<PaymentAnalysisService.HouseholdPaymentInfo> households = 
-            paymentAnalysisService.getHouseholdsAboveThreshold(threshold);
+            paymentReadModel.latest().getHouseholdsAboveThreshold(threshold);
         householdGrid.setItems(households);
     }
 
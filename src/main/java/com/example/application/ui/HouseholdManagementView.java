@@ -3,6 +3,7 @@ package com.example.application.ui;
 import com.example.application.base.ui.component.ViewToolbar;
 import com.example.application.domain.*;
 import com.example.application.repository.*;
+import com.example.application.service.HouseholdSearchService;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.combobox.ComboBox;
@@ -19,9 +20,16 @@ import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextArea;
 import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoUtility;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.text.NumberFormat;
@@ -42,6 +50,7 @@ public class HouseholdManagementView extends Main {
     private final BuildingRepository buildingRepository;
     private final EntranceRepository entranceRepository;
     private final ApartmentRepository apartmentRepository;
+    private final HouseholdSearchService householdSearchService;
 
     private final ComboBox<Building> buildingFilter;
     private final ComboBox<Entrance> entranceFilter;
@@ -53,12 +62,14 @@ public class HouseholdManagementView extends Main {
                                  PaymentRecordRepository paymentRecordRepository,
                                  BuildingRepository buildingRepository,
                                  EntranceRepository entranceRepository,
-                                 ApartmentRepository apartmentRepository) {
+                                 ApartmentRepository apartmentRepository,
+                                 HouseholdSearchService householdSearchService) {
         this.householdRepository = householdRepository;
         this.paymentRecordRepository = paymentRecordRepository;
         this.buildingRepository = buildingRepository;
         this.entranceRepository = entranceRepository;
         this.apartmentRepository = apartmentRepository;
+        this.householdSearchService = householdSearchService;
 
         setSizeFull();
         addClassNames(LumoUtility.BoxSizing.BORDER, LumoUtility.Display.FLEX, 
@@ -79,6 +90,7 @@ public class HouseholdManagementView extends Main {
 
         searchField = new TextField("Search");
         searchField.setPlaceholder("Search by household name...");
+        searchField.setValueChangeMode(ValueChangeMode.LAZY);
         searchField.addValueChangeListener(event -> filterHouseholds());
 
         Button addHouseholdBtn = new Button("Add Household", event -> openHouseholdDialog(null));
@@ -113,17 +125,26 @@ public class HouseholdManagementView extends Main {
     private void setupHouseholdGrid() {
         householdGrid.addColumn(household -> household.getApartment().getFullIdentifier())
             .setHeader("Address")
-            .setSortable(true);
+            .setSortProperty(HouseholdSearchService.HouseholdSort.ADDRESS.name());
 
         householdGrid.addColumn(Household::getHouseholdName)
             .setHeader("Household Name")
-            .setSortable(true);
+            .setSortProperty(HouseholdSearchService.HouseholdSort.NAME.name());
 
         householdGrid.addColumn(household -> "Floor " + household.getApartment().getFloorNumber())
             .setHeader("Floor")
-            .setSortable(true);
-
-        householdGrid.addComponentColumn(this::createActionButtons)
+            .setSortProperty(HouseholdSearchService.HouseholdSort.FLOOR.name());
+
+        householdGrid.addColumn(LitRenderer.<Household>of(
+                "<vaadin-horizontal-layout theme=\"spacing\">" +
+                "<vaadin-button theme=\"small\" @click=${edit}>Edit</vaadin-button>" +
+                "<vaadin-button theme=\"small tertiary\" @click=${view}>View</vaadin-button>" +
+                "</vaadin-horizontal-layout>")
+                .withFunction("edit", this::openHouseholdDialog)
+                .withFunction("view", household -> {
+                    householdGrid.select(household);
+                    showHouseholdDetails(household);
+                }))
             .setHeader("Actions")
             .setFlexGrow(0);
 
@@ -138,19 +159,6 @@ public class HouseholdManagementView extends Main {
         householdGrid.setSizeFull();
     }
 
-    private HorizontalLayout createActionButtons(Household household) {
-        Button editButton = new Button("Edit", event -> openHouseholdDialog(household));
-        editButton.addThemeVariants(ButtonVariant.LUMO_SMALL);
-
-        Button viewButton = new Button("View", event -> {
-            householdGrid.select(household);
-            showHouseholdDetails(household);
-        });
-        viewButton.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
-
-        return new HorizontalLayout(editButton, viewButton);
-    }
-
     private void openHouseholdDialog(Household household) {
         Dialog dialog = new Dialog();
         dialog.setHeaderTitle(household == null ? "Add New Household" : "Edit Household");
@@ -267,6 +275,7 @@ public class HouseholdManagementView extends Main {
             household.setContactInfo(contact != null && !contact.trim().isEmpty() ? contact.trim() : null);
 
             householdRepository.save(household);
+            householdSearchService.refresh();
 
             Notification.show(existingHousehold == null ? "Household created successfully" : "Household updated successfully", 
                             3000, Notification.Position.BOTTOM_END)
@@ -351,28 +360,27 @@ public class HouseholdManagementView extends Main {
     }
 
     private void filterHouseholds() {
-        List<Household> households;
-
-        if (buildingFilter.getValue() != null && entranceFilter.getValue() != null) {
-            households = householdRepository.findByBuildingAndEntrance(
-                buildingFilter.getValue().getBuildingNumber(),
-                entranceFilter.getValue().getEntranceNumber());
-        } else if (buildingFilter.getValue() != null) {
-            households = householdRepository.findByBuildingNumber(
-                buildingFilter.getValue().getBuildingNumber());
-        } else {
-            households = householdRepository.findAll();
-        }
+        HouseholdSearchService.HouseholdQuery filter = new HouseholdSearchService.HouseholdQuery(
+            buildingFilter.getValue() != null ? buildingFilter.getValue().getBuildingNumber() : null,
+            entranceFilter.getValue() != null ? entranceFilter.getValue().getEntranceNumber() : null,
+            searchField.getValue());
+
+        // The grid fetches one page at a time; filtering and sorting happen in the database
+        householdGrid.setItems(
+            query -> householdSearchService.findHouseholds(filter, toPageRequest(query)).stream(),
+            query -> (int) householdSearchService.countHouseholds(filter));
+    }
 
-        // Apply search filter
-        String searchTerm = searchField.getValue();
-        if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-            households = households.stream()
-                .filter(h -> h.getHouseholdName().toLowerCase().contains(searchTerm.toLowerCase()))
-                .toList();
+    private PageRequest toPageRequest(Query<?, ?> query) {
+        Sort sort = Sort.unsorted();
+        for (QuerySortOrder order : query.getSortOrders()) {
+            Sort.Direction direction = order.getDirection() == SortDirection.DESCENDING
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+            sort = sort.and(HouseholdSearchService.HouseholdSort.valueOf(order.getSorted()).toSort(direction));
         }
-
-        householdGrid.setItems(households);
+        // Stable order between pages
+        sort = sort.and(HouseholdSearchService.HouseholdSort.ADDRESS.toSort(Sort.Direction.ASC));
+        return PageRequest.of(query.getPage(), query.getPageSize(), sort);
     }
 
     private String formatCurrency(BigDecimal amount) {
@@ -1,11 +1,12 @@
 package com.example.application.ui;
 
 import com.example.application.base.ui.component.ViewToolbar;
+import com.example.application.service.AvailableMonths;
 import com.example.application.service.PaymentAnalysisService;
+import com.example.application.service.PaymentReadModel;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.combobox.ComboBox;
-import com.vaadin.flow.component.datepicker.DatePicker;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.*;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
@@ -29,16 +30,17 @@ import java.util.Locale;
 @PageTitle("Тайлан ба статистик")
 public class ReportsView extends Main {
 
-    private final PaymentAnalysisService paymentAnalysisService;
+    private final PaymentReadModel paymentReadModel;
+    private final AvailableMonths availableMonths;
     private final Select<String> reportTypeSelect;
     private final ComboBox<String> buildingSelect;
     private final ComboBox<LocalDate> monthFilter;
-    private final DatePicker monthPicker;
     private final ComboBox<BigDecimal> thresholdSelect;
     private final Div reportContent;
 
-    public ReportsView(PaymentAnalysisService paymentAnalysisService) {
-        this.paymentAnalysisService = paymentAnalysisService;
+    public ReportsView(PaymentReadModel paymentReadModel, AvailableMonths availableMonths) {
+        this.paymentReadModel = paymentReadModel;
+        this.availableMonths = availableMonths;
 
         setSizeFull();
         addClassNames(LumoUtility.BoxSizing.BORDER, LumoUtility.Display.FLEX, 
@@ -57,18 +59,11 @@ public class ReportsView extends Main {
         buildingSelect.setVisible(false);
 
         monthFilter = new ComboBox<>("Сар");
-        monthFilter.setItems(
-            LocalDate.of(2024, 7, 1),
-            LocalDate.of(2024, 8, 1),
-            LocalDate.of(2024, 9, 1)
-        );
+        monthFilter.setItems(availableMonths.months());
         monthFilter.setItemLabelGenerator(date -> date.format(DateTimeFormatter.ofPattern("yyyy оны M сар")));
-        monthFilter.setValue(LocalDate.of(2024, 9, 1)); // Default to September
+        availableMonths.latest().ifPresent(monthFilter::setValue);
         monthFilter.addValueChangeListener(event -> generateReport());
 
-        monthPicker = new DatePicker("Сар");
-        monthPicker.setValue(LocalDate.now().withDayOfMonth(1));
-
         thresholdSelect = new ComboBox<>("Босго (₮)");
         thresholdSelect.setItems(
             new BigDecimal("100000"),
@@ -88,7 +83,7 @@ public class ReportsView extends Main {
         exportButton.setVisible(false); // TODO: Implement export functionality
 
         HorizontalLayout controlsLayout = new HorizontalLayout(
-            reportTypeSelect, buildingSelect, monthFilter, monthPicker, thresholdSelect, generateButton, exportButton);
+            reportTypeSelect, buildingSelect, monthFilter, thresholdSelect, generateButton, exportButton);
         controlsLayout.setAlignItems(HorizontalLayout.Alignment.END);
 
         // Report content area
@@ -125,13 +120,13 @@ public class ReportsView extends Main {
     private void generateBuildingStatisticsReport() {
         LocalDate selectedMonth = monthFilter.getValue();
         if (selectedMonth == null) {
-            selectedMonth = LocalDate.of(2024, 9, 1);
+            selectedMonth = availableMonths.latestOrCurrent();
         }
 
         H3 title = new H3("Байрны статистик - " + selectedMonth.format(DateTimeFormatter.ofPattern("yyyy оны M сар")));
         title.addClassNames(LumoUtility.Margin.Top.NONE);
 
-        List<PaymentAnalysisService.BuildingStatistics> stats = paymentAnalysisService.getBuildingStatistics(selectedMonth);
+        List<PaymentAnalysisService.BuildingStatistics> stats = paymentReadModel.month(selectedMonth).getBuildingStatistics();
 
         Grid<PaymentAnalysisService.BuildingStatistics> grid = new Grid<>(PaymentAnalysisService.BuildingStatistics.class, false);
         
@@ -187,7 +182,7 @@ public class ReportsView extends Main {
         H3 title = new H3("Entrance Statistics Report - Building " + building);
         title.addClassNames(LumoUtility.Margin.Top.NONE);
 
-        List<PaymentAnalysisService.EntranceStatistics> stats = paymentAnalysisService.getEntranceStatistics(building);
+        List<PaymentAnalysisService.EntranceStatistics> stats = paymentReadModel.latest().getEntranceStatistics(building);
 
         Grid<PaymentAnalysisService.EntranceStatistics> grid = new Grid<>(PaymentAnalysisService.EntranceStatistics.class, false);
         
@@ -216,7 +211,7 @@ public class ReportsView extends Main {
     private void generateHighRiskHouseholdsReport() {
         LocalDate selectedMonth = monthFilter.getValue();
         if (selectedMonth == null) {
-            selectedMonth = LocalDate.of(2024, 9, 1);
+            selectedMonth = availableMonths.latestOrCurrent();
         }
 
         BigDecimal threshold = thresholdSelect.getValue();
@@ -231,7 +226,7 @@ public class ReportsView extends Main {
         subtitle.addClassNames(LumoUtility.TextColor.SECONDARY);
 
         List<PaymentAnalysisService.HouseholdPaymentInfo> households =
-            paymentAnalysisService.getHouseholdsAboveThreshold(threshold, selectedMonth);
+            paymentReadModel.month(selectedMonth).getHouseholdsAboveThreshold(threshold);
 
         Grid<PaymentAnalysisService.HouseholdPaymentInfo> grid = new Grid<>(PaymentAnalysisService.HouseholdPaymentInfo.class, false);
         
@@ -277,12 +272,15 @@ public class ReportsView extends Main {
         H3 title = new H3("Monthly Summary Report");
         title.addClassNames(LumoUtility.Margin.Top.NONE);
 
-        LocalDate selectedMonth = monthPicker.getValue();
+        LocalDate selectedMonth = monthFilter.getValue();
+        if (selectedMonth == null) {
+            selectedMonth = availableMonths.latestOrCurrent();
+        }
         Paragraph subtitle = new Paragraph("Summary for " + selectedMonth.format(java.time.format.DateTimeFormatter.ofPattern("MMMM yyyy")));
         subtitle.addClassNames(LumoUtility.TextColor.SECONDARY);
 
         // Get categorized households
-        var categorized = paymentAnalysisService.categorizeHouseholdsByRank();
+        var categorized = paymentReadModel.month(selectedMonth).getHouseholdsByRank();
 
         VerticalLayout summaryLayout = new VerticalLayout();
         summaryLayout.setPadding(false);
@@ -0,0 +1,3 @@
+-- Upload history is paged newest first by (upload_date, id); the id makes the key unique for keyset seeks
+DROP INDEX IF EXISTS idx_upload_history_date;
+CREATE INDEX idx_upload_history_date ON upload_history (upload_date, id);
@@ -0,0 +1,167 @@
+-- Baseline schema for production (PostgreSQL).
+-- Keep in step with db/migration/h2; index names are shared between both.
+-- Every statement is idempotent so this also baselines databases created earlier by Hibernate's ddl-auto.
+
+CREATE SEQUENCE IF NOT EXISTS building_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS entrance_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS apartment_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS household_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS payment_record_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS rank_configuration_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS app_configuration_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS meme_configurations_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS upload_history_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS building (
+    building_id             BIGINT      NOT NULL PRIMARY KEY,
+    building_number         VARCHAR(10) NOT NULL,
+    total_entrances         INTEGER     NOT NULL,
+    apartments_per_entrance INTEGER     NOT NULL,
+    floors                  INTEGER     NOT NULL,
+    apartments_per_floor    INTEGER     NOT NULL,
+    CONSTRAINT uk_building_number UNIQUE (building_number)
+);
+
+CREATE TABLE IF NOT EXISTS entrance (
+    entrance_id     BIGINT  NOT NULL PRIMARY KEY,
+    entrance_number INTEGER NOT NULL,
+    building_id     BIGINT  NOT NULL,
+    CONSTRAINT fk_entrance_building FOREIGN KEY (building_id) REFERENCES building (building_id)
+);
+
+CREATE TABLE IF NOT EXISTS apartment (
+    apartment_id BIGINT  NOT NULL PRIMARY KEY,
+    door_number  INTEGER NOT NULL,
+    floor_number INTEGER NOT NULL,
+    entrance_id  BIGINT  NOT NULL,
+    CONSTRAINT fk_apartment_entrance FOREIGN KEY (entrance_id) REFERENCES entrance (entrance_id)
+);
+
+CREATE TABLE IF NOT EXISTS household (
+    household_id   BIGINT       NOT NULL PRIMARY KEY,
+    household_name VARCHAR(200) NOT NULL,
+    contact_info   VARCHAR(500),
+    apartment_id   BIGINT       NOT NULL,
+    CONSTRAINT fk_household_apartment FOREIGN KEY (apartment_id) REFERENCES apartment (apartment_id)
+);
+
+CREATE TABLE IF NOT EXISTS payment_record (
+    payment_record_id   BIGINT         NOT NULL PRIMARY KEY,
+    household_id        BIGINT         NOT NULL,
+    record_month        DATE           NOT NULL,
+    outstanding_balance NUMERIC(15, 2) NOT NULL,
+    upload_date         DATE           NOT NULL,
+    CONSTRAINT fk_payment_record_household FOREIGN KEY (household_id) REFERENCES household (household_id)
+);
+
+CREATE TABLE IF NOT EXISTS rank_configuration (
+    rank_config_id   BIGINT         NOT NULL PRIMARY KEY,
+    rank_name        VARCHAR(100)   NOT NULL,
+    threshold_amount NUMERIC(15, 2) NOT NULL,
+    description      VARCHAR(500),
+    is_active        BOOLEAN        NOT NULL,
+    color_code       VARCHAR(7),
+    CONSTRAINT uk_rank_configuration_name UNIQUE (rank_name)
+);
+
+CREATE TABLE IF NOT EXISTS app_configuration (
+    config_id    BIGINT       NOT NULL PRIMARY KEY,
+    config_key   VARCHAR(100) NOT NULL,
+    config_value VARCHAR(1000),
+    description  VARCHAR(500),
+    CONSTRAINT uk_app_configuration_key UNIQUE (config_key)
+);
+
+CREATE TABLE IF NOT EXISTS meme_configurations (
+    id            BIGINT        NOT NULL PRIMARY KEY,
+    meme_type     VARCHAR(255)  NOT NULL,
+    content       VARCHAR(1000) NOT NULL,
+    is_active     BOOLEAN       NOT NULL,
+    display_order INTEGER,
+    weight        INTEGER
+);
+
+CREATE TABLE IF NOT EXISTS upload_history (
+    id                 BIGINT        NOT NULL PRIMARY KEY,
+    upload_date        TIMESTAMP(6)  NOT NULL,
+    file_name          VARCHAR(255)  NOT NULL,
+    file_size          BIGINT,
+    total_records      INTEGER,
+    processed_records  INTEGER,
+    failed_records     INTEGER,
+    upload_status      VARCHAR(255)  NOT NULL,
+    error_message      VARCHAR(2000),
+    uploaded_by        VARCHAR(255),
+    file_content       OID,
+    processing_summary VARCHAR(2000)
+);
+
+-- Databases created by ddl-auto already have these tables, so CREATE TABLE IF NOT EXISTS above did nothing there.
+-- Bring them in line with the definitions above: columns added after the table was created, the named
+-- unique keys (ddl-auto generated its own names, or none at all) and NOT NULL on columns that were added nullable.
+-- The unique indexes fail if duplicates exist; remove those rows by hand before migrating, e.g.
+--   SELECT building_number, count(*) FROM building GROUP BY building_number HAVING count(*) > 1;
+ALTER TABLE meme_configurations ADD COLUMN IF NOT EXISTS weight INTEGER;
+UPDATE meme_configurations SET weight = 1 WHERE weight IS NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_building_number ON building (building_number);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_rank_configuration_name ON rank_configuration (rank_name);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_app_configuration_key ON app_configuration (config_key);
+
+-- SET NOT NULL is a no-op where the column already has it
+ALTER TABLE building ALTER COLUMN building_number SET NOT NULL;
+ALTER TABLE entrance ALTER COLUMN building_id SET NOT NULL;
+ALTER TABLE apartment ALTER COLUMN entrance_id SET NOT NULL;
+ALTER TABLE household ALTER COLUMN household_name SET NOT NULL;
+ALTER TABLE household ALTER COLUMN apartment_id SET NOT NULL;
+ALTER TABLE payment_record ALTER COLUMN household_id SET NOT NULL;
+ALTER TABLE payment_record ALTER COLUMN record_month SET NOT NULL;
+ALTER TABLE payment_record ALTER COLUMN outstanding_balance SET NOT NULL;
+ALTER TABLE rank_configuration ALTER COLUMN rank_name SET NOT NULL;
+ALTER TABLE rank_configuration ALTER COLUMN threshold_amount SET NOT NULL;
+ALTER TABLE app_configuration ALTER COLUMN config_key SET NOT NULL;
+ALTER TABLE meme_configurations ALTER COLUMN meme_type SET NOT NULL;
+ALTER TABLE meme_configurations ALTER COLUMN content SET NOT NULL;
+ALTER TABLE upload_history ALTER COLUMN upload_date SET NOT NULL;
+ALTER TABLE upload_history ALTER COLUMN upload_status SET NOT NULL;
+
+-- One record per household and month: the upload upsert key, also serving per-household history and trends
+CREATE UNIQUE INDEX IF NOT EXISTS uk_payment_record_household_month ON payment_record (household_id, record_month);
+-- Month snapshots, threshold lists and monthly totals, answered from the index alone.
+-- Replaces the single-column index of the same name created by ddl-auto.
+DROP INDEX IF EXISTS idx_payment_record_month;
+CREATE INDEX idx_payment_record_month ON payment_record (record_month, outstanding_balance) INCLUDE (household_id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_entrance_building_number ON entrance (building_id, entrance_number);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_apartment_entrance_door ON apartment (entrance_id, door_number);
+CREATE INDEX IF NOT EXISTS idx_household_apartment ON household (apartment_id);
+
+CREATE INDEX IF NOT EXISTS idx_upload_history_date ON upload_history (upload_date);
+CREATE INDEX IF NOT EXISTS idx_upload_history_status_date ON upload_history (upload_status, upload_date);
+CREATE INDEX IF NOT EXISTS idx_upload_history_user_date ON upload_history (uploaded_by, upload_date);
+
+CREATE INDEX IF NOT EXISTS idx_meme_configurations_type ON meme_configurations (meme_type, is_active, display_order);
+
+-- Household name search (LIKE on lower(household_name)). pg_trgm needs CREATE privilege on the database;
+-- without it search still works with a sequential scan.
+DO $$
+BEGIN
+    CREATE EXTENSION IF NOT EXISTS pg_trgm;
+EXCEPTION WHEN insufficient_privilege THEN
+    RAISE NOTICE 'pg_trgm not available, household name search will not be indexed';
+END
+$$;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+        CREATE INDEX IF NOT EXISTS idx_household_name_trgm ON household USING gin (lower(household_name) gin_trgm_ops);
+    END IF;
+END
+$$;
+
+-- Upload history and meme configurations used identity columns before; start their sequences past existing ids
+SELECT setval('upload_history_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM upload_history),
+                                             (SELECT last_value FROM upload_history_seq)));
+SELECT setval('meme_configurations_seq', GREATEST((SELECT COALESCE(MAX(id), 1) FROM meme_configurations),
+                                                  (SELECT last_value FROM meme_configurations_seq)));
@@ -0,0 +1,42 @@
+-- Range-partition payment_record by record_month, one partition per year.
+-- Month queries prune to a single partition and whole years can be detached for archiving.
+-- PaymentPartitions creates the partition of a year before its first upload; rows outside
+-- every yearly partition land in payment_record_default.
+
+ALTER TABLE payment_record RENAME TO payment_record_unpartitioned;
+
+CREATE TABLE payment_record (
+    payment_record_id   BIGINT         NOT NULL,
+    household_id        BIGINT         NOT NULL,
+    record_month        DATE           NOT NULL,
+    outstanding_balance NUMERIC(15, 2) NOT NULL,
+    upload_date         DATE           NOT NULL
+) PARTITION BY RANGE (record_month);
+
+CREATE TABLE payment_record_default PARTITION OF payment_record DEFAULT;
+
+DO $$
+DECLARE
+    partition_year INTEGER;
+BEGIN
+    FOR partition_year IN
+        SELECT DISTINCT EXTRACT(YEAR FROM record_month)::INTEGER FROM payment_record_unpartitioned
+    LOOP
+        EXECUTE format('CREATE TABLE payment_record_y%s PARTITION OF payment_record FOR VALUES FROM (%L) TO (%L)',
+                       partition_year, make_date(partition_year, 1, 1), make_date(partition_year + 1, 1, 1));
+    END LOOP;
+END
+$$;
+
+INSERT INTO payment_record (payment_record_id, household_id, record_month, outstanding_balance, upload_date)
+SELECT payment_record_id, household_id, record_month, outstanding_balance, upload_date
+FROM payment_record_unpartitioned;
+
+DROP TABLE payment_record_unpartitioned;
+
+-- Unique keys of a partitioned table must contain the partition key
+ALTER TABLE payment_record ADD CONSTRAINT payment_record_pkey PRIMARY KEY (payment_record_id, record_month);
+ALTER TABLE payment_record ADD CONSTRAINT fk_payment_record_household
+    FOREIGN KEY (household_id) REFERENCES household (household_id);
+CREATE UNIQUE INDEX uk_payment_record_household_month ON payment_record (household_id, record_month);
+CREATE INDEX idx_payment_record_month ON payment_record (record_month, outstanding_balance) INCLUDE (household_id);
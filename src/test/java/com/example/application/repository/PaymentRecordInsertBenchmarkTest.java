@@ -0,0 +1,98 @@
+package com.example.application.repository;
+
+import com.example.application.domain.Apartment;
+import com.example.application.domain.Building;
+import com.example.application.domain.Entrance;
+import com.example.application.domain.Household;
+import com.example.application.domain.PaymentRecord;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PaymentRecord insert throughput one statement at a time against the configured JDBC batch size.
+ * Timings are logged, not asserted; the test checks that both modes insert every record.
+ */
+@DataJpaTest
+class PaymentRecordInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentRecordInsertBenchmarkTest.class);
+
+    private static final int RECORDS = 5_000;
+    // One month per record so no two records share household and month
+    private static final LocalDate FIRST_MONTH = LocalDate.of(2100, 1, 1);
+
+    @Autowired
+    private PaymentRecordRepository paymentRecordRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    private Household household;
+    private int run;
+
+    @BeforeEach
+    void createHousehold() {
+        Building building = new Building("B1", 1);
+        Entrance entrance = new Entrance(1, building);
+        Apartment apartment = new Apartment(1, 1, entrance);
+        household = new Household("Benchmark", apartment);
+        entityManager.persist(building);
+        entityManager.persist(entrance);
+        entityManager.persist(apartment);
+        entityManager.persist(household);
+        entityManager.flush();
+    }
+
+    @Test
+    void comparesUnbatchedAndBatchedInserts() {
+        assertThat(batchSize).isGreaterThan(1);
+
+        // The first round warms up the JIT, the second one is reported
+        double unbatched = 0;
+        double batched = 0;
+        for (int round = 0; round < 2; round++) {
+            unbatched = insertsPerSecond(1);
+            batched = insertsPerSecond(batchSize);
+        }
+
+        log.info("PaymentRecord inserts ({} records): unbatched {} /s, batch size {} {} /s",
+                 RECORDS, Math.round(unbatched), batchSize, Math.round(batched));
+        assertThat(paymentRecordRepository.count()).isEqualTo(4L * RECORDS);
+    }
+
+    private double insertsPerSecond(int jdbcBatchSize) {
+        Household attached = entityManager.merge(household);
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+
+        LocalDate firstMonth = FIRST_MONTH.plusMonths((long) run++ * RECORDS);
+        List<PaymentRecord> records = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            records.add(new PaymentRecord(attached, firstMonth.plusMonths(i), BigDecimal.valueOf(i)));
+        }
+
+        long start = System.nanoTime();
+        paymentRecordRepository.saveAll(records);
+        entityManager.flush();
+        long nanos = System.nanoTime() - start;
+
+        entityManager.clear();
+        return RECORDS * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BuildingNumberOrderTest {
+
+    @Test
+    void numbersSortNumerically() {
+        assertThat(PosterGeneratorService.compareBuildingNumbers("9", "10")).isNegative();
+        assertThat(PosterGeneratorService.compareBuildingNumbers("10", "9")).isPositive();
+        assertThat(PosterGeneratorService.compareBuildingNumbers("72", "72")).isZero();
+    }
+
+    @Test
+    void letterSuffixSortsAfterPlainNumber() {
+        List<String> numbers = new ArrayList<>(List.of("73", "72А", "72", "72Б", "8"));
+
+        numbers.sort(PosterGeneratorService::compareBuildingNumbers);
+
+        assertThat(numbers).containsExactly("8", "72", "72А", "72Б", "73");
+    }
+
+    @Test
+    void numbersWithoutLeadingDigitsSortLast() {
+        List<String> numbers = new ArrayList<>(List.of("Б", "100", "А", "5"));
+
+        numbers.sort(PosterGeneratorService::compareBuildingNumbers);
+
+        assertThat(numbers).containsExactly("5", "100", "А", "Б");
+    }
+
+    @Test
+    void overlongNumbersDoNotOverflow() {
+        assertThat(PosterGeneratorService.compareBuildingNumbers("99999999999999999999", "1")).isPositive();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmojiTextProcessorTest {
+
+    @Test
+    void compileSkipsCommentsBlankAndMalformedLines() {
+        Map<Integer, EmojiTextProcessor.Substitution[]> table = EmojiTextProcessor.compile(String.join("\n",
+            "# comment",
+            "",
+            "=[no emoji]",
+            "no separator",
+            "😄=[инээмсэглэл]"));
+
+        assertThat(table).containsOnlyKeys("😄".codePointAt(0));
+        assertThat(table.get("😄".codePointAt(0))[0].replacement).isEqualTo("[инээмсэглэл]");
+    }
+
+    @Test
+    void compileOrdersSequencesLongestFirst() {
+        Map<Integer, EmojiTextProcessor.Substitution[]> table = EmojiTextProcessor.compile("👍=[сайн]\n👍👍=[маш сайн]");
+
+        EmojiTextProcessor.Substitution[] candidates = table.get("👍".codePointAt(0));
+        assertThat(candidates).extracting(s -> s.sequence).containsExactly("👍👍", "👍");
+    }
+
+    @Test
+    void textWithoutEmojisIsReturnedAsIs() {
+        String text = "Төлбөрөө төлнө үү";
+
+        assertThat(processor(EmojiTextProcessor.DEFAULT_TABLE).process(text)).isSameAs(text);
+    }
+
+    @Test
+    void wordReplacementsAreSeparatedBySpaces() {
+        EmojiTextProcessor processor = processor(EmojiTextProcessor.DEFAULT_TABLE);
+
+        assertThat(processor.process("Сайн😄байна")).isEqualTo("Сайн [инээмсэглэл] байна");
+        assertThat(processor.process("Сайн 😄 байна")).isEqualTo("Сайн [инээмсэглэл] байна");
+    }
+
+    @Test
+    void punctuationReplacesEmojiInPlace() {
+        assertThat(processor(EmojiTextProcessor.DEFAULT_TABLE).process("Төл❗")).isEqualTo("Төл!");
+    }
+
+    @Test
+    void variationSelectorIsDropped() {
+        assertThat(processor(EmojiTextProcessor.DEFAULT_TABLE).process("⚡️")).isEqualTo("[цахилгаан]");
+    }
+
+    @Test
+    void longestSequenceWins() {
+        assertThat(processor("👍=[сайн]\n👍👍=[маш сайн]").process("👍👍")).isEqualTo("[маш сайн]");
+    }
+
+    @Test
+    void nullTextBecomesEmpty() {
+        assertThat(processor(EmojiTextProcessor.DEFAULT_TABLE).process(null)).isEmpty();
+    }
+
+    private static EmojiTextProcessor processor(String table) {
+        ConfigurationService configurationService = mock(ConfigurationService.class);
+        when(configurationService.getEmojiTable()).thenReturn(table);
+        return new EmojiTextProcessor(configurationService);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HouseholdNameIndexTest {
+
+    private final HouseholdNameIndex index = new HouseholdNameIndex(names());
+
+    @Test
+    void findsSubstringsCaseInsensitively() {
+        assertThat(index.search("болд")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("баатар")).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void shortTermsFallBackToScan() {
+        assertThat(index.search("ц")).containsExactly(4L);
+        assertThat(index.search("")).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void sharedTrigramsOutOfOrderDoNotMatch() {
+        // Every trigram of "габвга" occurs in "абвгабв", but not as one run
+        assertThat(index.search("габвга")).isEmpty();
+        assertThat(index.search("абвг")).containsExactly(5L);
+    }
+
+    @Test
+    void unknownTermFindsNothing() {
+        assertThat(index.search("дорж")).isEmpty();
+    }
+
+    private static Map<Long, String> names() {
+        Map<Long, String> names = new HashMap<>();
+        names.put(1L, "Болдбаатар");
+        names.put(2L, "Бат-Болд");
+        names.put(3L, "Ганбаатар");
+        names.put(4L, "Цэцэг");
+        names.put(5L, "абвгабв");
+        names.put(6L, null);
+        return names;
+    }
+}
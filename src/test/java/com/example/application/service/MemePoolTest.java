@@ -0,0 +1,83 @@
+package com.example.application.service;
+
+import com.example.application.entity.MemeConfiguration;
+import com.example.application.entity.MemeConfiguration.MemeType;
+import com.example.application.repository.MemeConfigurationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemePoolTest {
+
+    @Test
+    void drawUsesEveryMemeBeforeRepeating() {
+        List<MemeConfiguration> memes = List.of(text("a", 1), text("b", 5), text("c", 20));
+        MemePool.Draw draw = pool(memes).newDraw();
+
+        for (int round = 0; round < 10; round++) {
+            List<MemeConfiguration> drawn = new ArrayList<>();
+            for (int i = 0; i < memes.size(); i++) {
+                drawn.add(draw.nextText());
+            }
+            assertThat(drawn).containsExactlyInAnyOrderElementsOf(memes);
+        }
+    }
+
+    @Test
+    void drawKeepsItsSnapshotAcrossRefresh() {
+        MemeConfigurationRepository repository = mock(MemeConfigurationRepository.class);
+        List<MemeConfiguration> first = List.of(text("a", 1), text("b", 1));
+        when(repository.findByMemeTypeAndIsActiveTrueOrderByDisplayOrder(any())).thenReturn(List.of());
+        when(repository.findByMemeTypeAndIsActiveTrueOrderByDisplayOrder(MemeType.TEXT)).thenReturn(first);
+        MemePool pool = new MemePool(repository);
+        MemePool.Draw draw = pool.newDraw();
+
+        MemeConfiguration drawn = draw.nextText();
+        when(repository.findByMemeTypeAndIsActiveTrueOrderByDisplayOrder(MemeType.TEXT)).thenReturn(List.of(text("c", 1)));
+        pool.refresh();
+
+        assertThat(draw.nextText()).isIn(first).isNotSameAs(drawn);
+    }
+
+    @Test
+    void emptyTypeDrawsNothing() {
+        MemePool pool = pool(List.of(text("a", 1)));
+
+        assertThat(pool.newDraw().nextImage()).isNull();
+        assertThat(pool.pickImage()).isNull();
+    }
+
+    @Test
+    void pickHonoursWeights() {
+        MemeConfiguration rare = text("rare", 1);
+        MemeConfiguration common = text("common", 99);
+        MemePool pool = pool(List.of(rare, common));
+
+        int commonPicks = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (pool.pickText() == common) {
+                commonPicks++;
+            }
+        }
+        assertThat(commonPicks).isGreaterThan(900);
+    }
+
+    private static MemePool pool(List<MemeConfiguration> textMemes) {
+        MemeConfigurationRepository repository = mock(MemeConfigurationRepository.class);
+        when(repository.findByMemeTypeAndIsActiveTrueOrderByDisplayOrder(any())).thenReturn(List.of());
+        when(repository.findByMemeTypeAndIsActiveTrueOrderByDisplayOrder(MemeType.TEXT)).thenReturn(textMemes);
+        return new MemePool(repository);
+    }
+
+    private static MemeConfiguration text(String content, int weight) {
+        MemeConfiguration meme = new MemeConfiguration(MemeType.TEXT, content);
+        meme.setWeight(weight);
+        return meme;
+    }
+}
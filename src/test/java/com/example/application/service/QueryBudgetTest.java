@@ -0,0 +1,115 @@
+package com.example.application.service;
+
+import com.example.application.config.QueryBudgetConfiguration;
+import com.example.application.config.QueryCounter;
+import com.example.application.domain.Apartment;
+import com.example.application.domain.Building;
+import com.example.application.domain.Entrance;
+import com.example.application.domain.Household;
+import com.example.application.domain.PaymentRecord;
+import com.example.application.domain.RankConfiguration;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement budgets of the hot read paths. The budgets do not depend on the number of households,
+ * so a lazy association slipping back into a loop fails here instead of showing up as N+1 queries.
+ */
+@DataJpaTest
+@Import({QueryBudgetConfiguration.class, PaymentAnalysisService.class, HouseholdSearchService.class})
+class QueryBudgetTest {
+
+    private static final LocalDate MONTH = LocalDate.of(2024, 9, 1);
+    private static final int HOUSEHOLDS = 3 * 2 * 4;
+
+    @Autowired
+    private PaymentAnalysisService paymentAnalysisService;
+
+    @Autowired
+    private HouseholdSearchService householdSearchService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void seed() {
+        entityManager.persist(new RankConfiguration("Хувалз", new BigDecimal("500000")));
+        entityManager.persist(new RankConfiguration("Өртэй", new BigDecimal("100000")));
+
+        for (int b = 1; b <= 3; b++) {
+            Building building = new Building(String.valueOf(70 + b), 2);
+            entityManager.persist(building);
+            for (int e = 1; e <= 2; e++) {
+                Entrance entrance = new Entrance(e, building);
+                entityManager.persist(entrance);
+                for (int door = 1; door <= 4; door++) {
+                    Apartment apartment = new Apartment(e * 100 + door, door, entrance);
+                    Household household = new Household("Айл " + b + "-" + e + "-" + door, apartment);
+                    entityManager.persist(apartment);
+                    entityManager.persist(household);
+                    entityManager.persist(new PaymentRecord(household, MONTH, BigDecimal.valueOf(door * 150_000L)));
+                }
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        QueryCounter.reset();
+    }
+
+    @Test
+    void monthSnapshotLoadsRanksAndRecordsOnly() {
+        PaymentReadModel.MonthSnapshot snapshot =
+            QueryCounter.withinBudget(2, () -> paymentAnalysisService.loadMonthSnapshot(MONTH));
+
+        assertThat(snapshot.getHouseholds()).hasSize(HOUSEHOLDS);
+        assertThat(snapshot.getBuildingStatistics()).hasSize(3);
+    }
+
+    @Test
+    void buildingStatisticsUseOneQuery() {
+        var statistics = QueryCounter.withinBudget(1, () -> paymentAnalysisService.getBuildingStatistics());
+
+        assertThat(statistics).hasSize(3);
+        assertThat(statistics).allSatisfy(building -> assertThat(building.getTotalHouseholds()).isEqualTo(8));
+    }
+
+    @Test
+    void householdListPageAndCountUseOneQueryEach() {
+        HouseholdSearchService.HouseholdQuery query = new HouseholdSearchService.HouseholdQuery(null, null, null);
+        // The paging the household management grid does
+        PageRequest page = PageRequest.of(1, 10, HouseholdSearchService.HouseholdSort.ADDRESS.toSort(Sort.Direction.ASC));
+
+        var households = QueryCounter.withinBudget(1, () -> householdSearchService.findHouseholds(query, page));
+        long count = QueryCounter.withinBudget(1, () -> householdSearchService.countHouseholds(query));
+
+        assertThat(households).hasSize(10);
+        assertThat(households).allSatisfy(household ->
+            assertThat(household.getApartment().getEntrance().getBuilding().getBuildingNumber()).isNotNull());
+        assertThat(count).isEqualTo(HOUSEHOLDS);
+    }
+
+    @Test
+    void householdNameSearchStaysWithinBudget() {
+        HouseholdSearchService.HouseholdQuery query = new HouseholdSearchService.HouseholdQuery("72", null, "айл 2-1");
+        householdSearchService.refresh();
+
+        var households = QueryCounter.withinBudget(1,
+            () -> householdSearchService.findHouseholds(query, PageRequest.of(0, 50)));
+        long count = QueryCounter.withinBudget(1, () -> householdSearchService.countHouseholds(query));
+
+        assertThat(households).hasSize(4);
+        assertThat(count).isEqualTo(4);
+    }
+}
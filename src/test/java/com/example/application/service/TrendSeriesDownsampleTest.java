@@ -0,0 +1,53 @@
+package com.example.application.service;
+
+import com.example.application.service.TrendSeriesService.TrendPoint;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendSeriesDownsampleTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+    @Test
+    void shortSeriesIsReturnedUnchanged() {
+        List<TrendPoint> points = series(24);
+
+        assertThat(TrendSeriesService.downsample(points, 24)).containsExactlyElementsOf(points);
+        assertThat(TrendSeriesService.downsample(points, 2)).containsExactlyElementsOf(points);
+    }
+
+    @Test
+    void longSeriesIsReducedToThresholdKeepingBothEnds() {
+        List<TrendPoint> points = series(120);
+
+        List<TrendPoint> sampled = TrendSeriesService.downsample(points, 24);
+
+        assertThat(sampled).hasSize(24);
+        assertThat(sampled.get(0)).isEqualTo(points.get(0));
+        assertThat(sampled.get(23)).isEqualTo(points.get(119));
+        assertThat(sampled).isSortedAccordingTo((a, b) -> a.month().compareTo(b.month()));
+    }
+
+    @Test
+    void peakSurvivesDownsampling() {
+        List<TrendPoint> points = series(120);
+        TrendPoint peak = new TrendPoint(START.plusMonths(57), new BigDecimal("1000000"), 1, null);
+        points.set(57, peak);
+
+        assertThat(TrendSeriesService.downsample(points, 24)).contains(peak);
+    }
+
+    private static List<TrendPoint> series(int months) {
+        List<TrendPoint> points = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            points.add(new TrendPoint(START.plusMonths(i), BigDecimal.valueOf(1000 + (i % 7) * 10), 1, null));
+        }
+        return points;
+    }
+}